@@ -1,7 +1,9 @@
 package com.example.conference_management_system.conference;
 
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -16,14 +18,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.example.conference_management_system.user.dto.ReviewerAssignmentRequest;
 import com.example.conference_management_system.conference.dto.ConferenceCreateRequest;
 import com.example.conference_management_system.conference.dto.ConferenceDTO;
+import com.example.conference_management_system.conference.dto.ConferenceDeadlines;
+import com.example.conference_management_system.conference.dto.ConferencePage;
 import com.example.conference_management_system.conference.dto.ConferenceUpdateRequest;
 import com.example.conference_management_system.conference.dto.PCChairAdditionRequest;
 import com.example.conference_management_system.conference.dto.PaperSubmissionRequest;
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+import com.example.conference_management_system.conference.dto.ReviewerAssignmentResult;
+import com.example.conference_management_system.conference.dto.ReviewerAutoAssignmentDTO;
+import com.example.conference_management_system.file.ArchiveEntry;
+import com.example.conference_management_system.file.FileService;
 import com.example.conference_management_system.review.ReviewDecision;
 import com.example.conference_management_system.security.SecurityUser;
 
@@ -46,6 +58,7 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/conferences")
 class ConferenceController {
     private final ConferenceService conferenceService;
+    private final FileService fileService;
 
     @PostMapping
     @Operation(
@@ -99,6 +112,32 @@ class ConferenceController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /*
+        When the deadline of the current state passes the conference moves to the next state, the same as if the chair
+        started it
+     */
+    @PreAuthorize("hasRole('PC_CHAIR')")
+    @PutMapping("/{id}/deadlines")
+    @Operation(
+            summary = "Set the deadlines of the phases of the conference",
+            description = "Accessible only to users with role ROLE_PC_CHAIR. You must be one of the PC Chairs of the conference. " +
+                    "Every deadline is optional and replaces the previous one, the ones provided must follow the order of the " +
+                    "phases. When a deadline passes the conference moves to the next state.",
+            tags = {"Conference"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    ResponseEntity<Void> updateDeadlines(@PathVariable("id") UUID id,
+                                         @RequestBody ConferenceDeadlines deadlines,
+                                         @AuthenticationPrincipal SecurityUser securityUser) {
+        this.conferenceService.updateDeadlines(id, deadlines, securityUser);
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     /*
         The state of conference changes to SUBMISSION, and we can submit papers to that conference
      */
@@ -282,6 +321,55 @@ class ConferenceController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @PreAuthorize("hasRole('PC_CHAIR')")
+    @Operation(
+            summary = "Assign reviewers to many submitted papers at once",
+            description = "Accessible only to users with role ROLE_PC_CHAIR. You must be one of the PC Chairs of the conference. " +
+                    "Each assignment is checked like a single one, the response has a result per assignment in the order of the " +
+                    "request with the reason when it was not assigned. At most 2000 assignments per request.",
+            tags = {"Conference"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    @PostMapping("/{conferenceId}/assignments")
+    ResponseEntity<List<ReviewerAssignmentResult>> assignReviewers(
+            @PathVariable("conferenceId") UUID conferenceId,
+            @RequestBody List<ReviewerAssignment> assignments,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        List<ReviewerAssignmentResult> results = this.conferenceService.assignReviewers(conferenceId, assignments,
+                securityUser);
+
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasRole('PC_CHAIR')")
+    @Operation(
+            summary = "Assign reviewers to all the submitted papers automatically",
+            description = "Accessible only to users with role ROLE_PC_CHAIR. You must be one of the PC Chairs of the conference. " +
+                    "Every paper gets up to 2 reviewers, preferring reviewers who reviewed papers with the same keywords and never " +
+                    "an author of the paper. Without maxPapersPerReviewer the papers are shared evenly between the reviewers. " +
+                    "The response has the assignments made and the papers that could not get all their reviewers.",
+            tags = {"Conference"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    @PostMapping("/{conferenceId}/assignments/auto")
+    ResponseEntity<ReviewerAutoAssignmentDTO> autoAssignReviewers(
+            @PathVariable("conferenceId") UUID conferenceId,
+            @RequestParam(value = "maxPapersPerReviewer", required = false) Integer maxPapersPerReviewer,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        ReviewerAutoAssignmentDTO autoAssignment = this.conferenceService.autoAssignReviewers(conferenceId,
+                maxPapersPerReviewer, securityUser);
+
+        return new ResponseEntity<>(autoAssignment, HttpStatus.OK);
+    }
+
     /*
         A paper that has been reviewed can either get APPROVED or REJECTED
      */
@@ -318,30 +406,80 @@ class ConferenceController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Find conference by id",
-            description = "Public endpoint. If the requested user is in a relationship with the conference extra properties are returned",
+            description = "Public endpoint. If the requested user is in a relationship with the conference extra properties are returned. " +
+                    "The response has an ETag, a request with the same ETag in the If-None-Match header gets 304 if the conference did not change",
             tags = {"Conference"}
     )
     ResponseEntity<ConferenceDTO> findConferenceById(@PathVariable("id") UUID id,
                                                      @Parameter(hidden = true) @CurrentSecurityContext
-                                                     SecurityContext securityContext) {
+                                                     SecurityContext securityContext,
+                                                     WebRequest webRequest) {
+        String eTag = this.conferenceService.findConferenceETag(id, securityContext);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         ConferenceDTO conferenceDTO = this.conferenceService.findConferenceById(id, securityContext);
 
-        return new ResponseEntity<>(conferenceDTO, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(conferenceDTO);
     }
 
+    /*
+        The next page is returned in the Link header(RFC 8288) like the papers, see PaperController#findPapers()
+     */
     @GetMapping
     @Operation(
             summary = "Find conferences. Optional filters are: name, description. If none is provided all conferences are returned",
-            description = "Public endpoint. If the requested user is in a relationship with any of the returned conferences extra properties are returned",
+            description = "Public endpoint. If the requested user is in a relationship with any of the returned conferences extra properties are returned. " +
+                    "Results are ordered by name and paginated by limit(default 20, max 100). The next page is in the Link header with rel=\"next\"",
             tags = {"Conference"}
     )
     ResponseEntity<List<ConferenceDTO>> findConferences(
             @RequestParam(value = "name", defaultValue = "", required = false) String name,
             @RequestParam(value = "description", defaultValue = "", required = false) String description,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
             @Parameter(hidden = true) @CurrentSecurityContext SecurityContext securityContext) {
-        List<ConferenceDTO> conferences = this.conferenceService.findConferences(name, description, securityContext);
+        ConferencePage conferencePage = this.conferenceService.findConferences(name, description, cursor, limit,
+                securityContext);
+
+        HttpHeaders headers = new HttpHeaders();
+        if (conferencePage.next() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", conferencePage.next())
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return new ResponseEntity<>(conferencePage.conferences(), headers, HttpStatus.OK);
+    }
 
-        return new ResponseEntity<>(conferences, HttpStatus.OK);
+    /*
+        The archive is written by an async thread after the method returns, the authorization and the query of the
+        entries happen before, so a 403/404 is still returned as JSON.
+     */
+    @PreAuthorize("hasRole('PC_CHAIR')")
+    @GetMapping(value = "/{id}/papers/archive", produces = "application/zip")
+    @Operation(
+            summary = "Download the files of all the papers submitted to the conference as a ZIP archive",
+            description = "Accessible only to users with role ROLE_PC_CHAIR. You must be one of the PC Chairs of the conference, having the role is not enough",
+            tags = {"Conference"},
+            security = {
+                    @SecurityRequirement(name = "cookieAuth")
+            })
+    ResponseEntity<StreamingResponseBody> downloadPapersArchive(@PathVariable("id") UUID id,
+                                                                @AuthenticationPrincipal SecurityUser securityUser) {
+        List<ArchiveEntry> entries = this.conferenceService.findPaperArchiveEntries(id, securityUser);
+        StreamingResponseBody body = outputStream -> this.fileService.writeArchive(entries, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("conference-" + id + "-papers.zip")
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
     }
 
     @DeleteMapping("/{id}")
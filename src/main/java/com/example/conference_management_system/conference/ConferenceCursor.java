@@ -0,0 +1,23 @@
+package com.example.conference_management_system.conference;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+    The position of the last conference of a page. Conference names are unique, so the name alone is the key of the
+    ordering. The client receives it as an opaque Base64(URL safe) value and sends it back to get the next page.
+ */
+public record ConferenceCursor(String name) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(this.name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ConferenceCursor decode(String cursor) {
+        try {
+            return new ConferenceCursor(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.conference_management_system.conference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    Moves the conferences whose deadline passed to their next state, so a phase starts on time without the chair and
+    the authors do not all arrive at the moment the chair announces it. Every node of the cluster runs it, the
+    conferences are found with one query per batch and each transition runs under the lock of its conference, a
+    conference locked by another node is skipped. ConferenceService#advanceByDeadline() checks the deadline again in
+    its transaction, the conference may have moved since the query.
+
+    A batch where nothing could be applied, e.g. all locked by another node, ends the run, the next one retries them.
+ */
+@Component
+class ConferenceDeadlineScheduler {
+    private final ConferenceRepository conferenceRepository;
+    private final ConferenceService conferenceService;
+    private final ConferenceTransitionLock transitionLock;
+    private final int batchSize;
+    private static final Logger logger = LoggerFactory.getLogger(ConferenceDeadlineScheduler.class);
+    private static final List<ConferenceState> STATES_WITH_DEADLINE = Arrays.stream(ConferenceState.values())
+            .filter(state -> state != ConferenceState.FINAL)
+            .toList();
+
+    ConferenceDeadlineScheduler(ConferenceRepository conferenceRepository,
+                                ConferenceService conferenceService,
+                                ConferenceTransitionLock transitionLock,
+                                @Value("${conferences.deadlines.batch-size:100}") int batchSize) {
+        this.conferenceRepository = conferenceRepository;
+        this.conferenceService = conferenceService;
+        this.transitionLock = transitionLock;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${conferences.deadlines.cron:0 * * * * *}")
+    public void applyDueTransitions() {
+        Instant now = Instant.now();
+        int applied = 0;
+        List<UUID> conferenceIds;
+        int appliedInBatch;
+
+        do {
+            conferenceIds = this.conferenceRepository.findIdsWithDeadlineBefore(STATES_WITH_DEADLINE, now,
+                    PageRequest.of(0, this.batchSize));
+            appliedInBatch = 0;
+
+            for (UUID conferenceId : conferenceIds) {
+                if (apply(conferenceId, now)) {
+                    appliedInBatch++;
+                }
+            }
+            applied += appliedInBatch;
+        } while (conferenceIds.size() == this.batchSize && appliedInBatch > 0);
+
+        if (applied > 0) {
+            logger.info("Moved {} conferences to their next state by deadline", applied);
+        }
+    }
+
+    /*
+        A failed transition is logged and the rest of the batch continues, the conference is found again by the next
+        run
+     */
+    private boolean apply(UUID conferenceId, Instant now) {
+        AtomicBoolean advanced = new AtomicBoolean();
+
+        try {
+            this.transitionLock.runIfAcquired(conferenceId, () ->
+                    advanced.set(this.conferenceService.advanceByDeadline(conferenceId, now)));
+        } catch (ObjectOptimisticLockingFailureException oe) {
+            logger.info("Conference with id: {} was updated during its deadline transition", conferenceId);
+        } catch (RuntimeException re) {
+            logger.error("Deadline transition failed for conference with id: {}", conferenceId, re);
+        }
+
+        return advanced.get();
+    }
+}
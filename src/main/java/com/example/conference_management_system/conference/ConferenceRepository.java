@@ -1,14 +1,21 @@
 package com.example.conference_management_system.conference;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.LockModeType;
+
+import com.example.conference_management_system.conference.dto.ConferenceDTO;
+import com.example.conference_management_system.conference.dto.ConferenceUserProjection;
 import com.example.conference_management_system.entity.Conference;
 
 public interface ConferenceRepository extends JpaRepository<Conference, UUID>, JpaSpecificationExecutor<Conference> {
@@ -40,6 +47,21 @@ public interface ConferenceRepository extends JpaRepository<Conference, UUID>, J
             """)
     Optional<Conference> findByConferenceIdFetchingConferenceUsersAndPapers(@Param("id") UUID id);
 
+    /*
+        The below queries initialize the collections of conferences that are already loaded in the persistence context,
+        they have to be called in the same transaction. Each one fetches one collection, so the rows grow linearly with
+        the number of conferences.
+     */
+    @Query("""
+                SELECT c
+                FROM Conference c
+                LEFT JOIN FETCH c.conferenceUsers cu
+                LEFT JOIN FETCH cu.user u
+                LEFT JOIN FETCH u.roles
+                WHERE c IN :conferences
+            """)
+    List<Conference> fetchConferenceUsersForConferences(@Param("conferences") List<Conference> conferences);
+
     @Query("""
                 SELECT c
                 FROM Conference c
@@ -49,4 +71,79 @@ public interface ConferenceRepository extends JpaRepository<Conference, UUID>, J
                 WHERE c IN :conferences
             """)
     List<Conference> fetchPapersForConferences(@Param("conferences") List<Conference> conferences);
+
+    /*
+        Read only path for guests. The columns of the ConferenceDTO are selected directly, so no managed entities are
+        created. The filters match the ConferenceSpecs, an empty value means no filter and the values must be lowercase.
+        The cursor is the name of the last conference of the previous page, an empty string for the first page. The
+        users of the returned conferences are selected with findConferenceUserProjections().
+
+        The return type is a List, so the Pageable only limits the rows and no count query is executed.
+     */
+    @Query("""
+                SELECT new com.example.conference_management_system.conference.dto.ConferenceDTO(
+                    c.id, c.name, c.description)
+                FROM Conference c
+                WHERE (:name = '' OR LOWER(c.name) LIKE CONCAT('%', :name, '%'))
+                    AND (:description = '' OR LOWER(c.description) LIKE CONCAT('%', :description, '%'))
+                    AND c.name > :cursorName
+                ORDER BY c.name
+            """)
+    List<ConferenceDTO> findConferenceDTOs(@Param("name") String name,
+                                           @Param("description") String description,
+                                           @Param("cursorName") String cursorName,
+                                           Pageable pageable);
+
+    @Query("""
+                SELECT new com.example.conference_management_system.conference.dto.ConferenceUserProjection(
+                    cu.conference.id, u.id, u.username, u.fullName, r.type)
+                FROM ConferenceUser cu
+                JOIN cu.user u
+                LEFT JOIN u.roles r
+                WHERE cu.conference.id IN :ids
+            """)
+    List<ConferenceUserProjection> findConferenceUserProjections(@Param("ids") List<UUID> ids);
+
+    @Query("""
+                SELECT c.version
+                FROM Conference c
+                WHERE c.id = :id
+            """)
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /*
+        The PC chair view of a conference includes its papers, which are updated without updating the conference. The
+        digest of the (id, version) of the papers changes when a paper is submitted, withdrawn or updated.
+     */
+    @Query(value = """
+                SELECT COALESCE(md5(string_agg(p.id || ':' || p.version, ',' ORDER BY p.id)), '')
+                FROM papers p
+                WHERE p.conference_id = :id
+            """, nativeQuery = true)
+    String findPapersDigestById(@Param("id") UUID id);
+
+    /*
+        The version of the conference is incremented at the commit even if none of its columns changed
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("""
+                SELECT c
+                FROM Conference c
+                WHERE c.id = :id
+            """)
+    Optional<Conference> findByIdForcingVersionIncrement(@Param("id") UUID id);
+
+    /*
+        The conferences whose current state has a deadline that passed, the earliest first. The states are listed so the
+        query uses the (state, next_deadline) index.
+     */
+    @Query("""
+                SELECT c.id
+                FROM Conference c
+                WHERE c.state IN :states AND c.nextDeadline <= :now
+                ORDER BY c.nextDeadline
+            """)
+    List<UUID> findIdsWithDeadlineBefore(@Param("states") List<ConferenceState> states,
+                                         @Param("now") Instant now,
+                                         Pageable pageable);
 }
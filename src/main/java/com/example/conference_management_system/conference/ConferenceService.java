@@ -1,11 +1,20 @@
 package com.example.conference_management_system.conference;
 
 import com.example.conference_management_system.auth.AuthService;
+import com.example.conference_management_system.content.ContentRepository;
 import com.example.conference_management_system.conference.dto.ConferenceCreateRequest;
 import com.example.conference_management_system.conference.dto.ConferenceDTO;
+import com.example.conference_management_system.conference.dto.ConferenceDeadlines;
+import com.example.conference_management_system.conference.dto.ConferencePage;
+import com.example.conference_management_system.conference.dto.ConferenceUserProjection;
+import com.example.conference_management_system.conference.dto.KeywordsProjection;
+import com.example.conference_management_system.conference.dto.PaperUserProjection;
 import com.example.conference_management_system.conference.dto.ConferenceUpdateRequest;
 import com.example.conference_management_system.conference.dto.PCChairAdditionRequest;
 import com.example.conference_management_system.conference.dto.PaperSubmissionRequest;
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+import com.example.conference_management_system.conference.dto.ReviewerAssignmentResult;
+import com.example.conference_management_system.conference.dto.ReviewerAutoAssignmentDTO;
 import com.example.conference_management_system.entity.Conference;
 import com.example.conference_management_system.entity.ConferenceUser;
 import com.example.conference_management_system.entity.Paper;
@@ -17,6 +26,9 @@ import com.example.conference_management_system.conference.mapper.ConferenceDTOM
 import com.example.conference_management_system.conference.mapper.PCChairConferenceDTOMapper;
 import com.example.conference_management_system.entity.key.PaperUserId;
 import com.example.conference_management_system.exception.DuplicateResourceException;
+import com.example.conference_management_system.file.ArchiveEntry;
+import com.example.conference_management_system.outbox.OutboxEventType;
+import com.example.conference_management_system.outbox.OutboxService;
 import com.example.conference_management_system.exception.ResourceNotFoundException;
 import com.example.conference_management_system.exception.StateConflictException;
 import com.example.conference_management_system.paper.PaperService;
@@ -28,17 +40,27 @@ import com.example.conference_management_system.role.RoleType;
 import com.example.conference_management_system.security.SecurityUser;
 import com.example.conference_management_system.user.UserService;
 import com.example.conference_management_system.user.dto.ReviewerAssignmentRequest;
+import com.example.conference_management_system.user.dto.UserDTO;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -57,9 +79,15 @@ public class ConferenceService {
     private final PaperService paperService;
     private final RoleService roleService;
     private final AuthService authService;
+    private final ContentRepository contentRepository;
+    private final ReviewerAssignmentRepository reviewerAssignmentRepository;
+    private final OutboxService outboxService;
     private final ConferenceDTOMapper conferenceDTOMapper = new ConferenceDTOMapper();
     private final PCChairConferenceDTOMapper pcChairConferenceDTOMapper = new PCChairConferenceDTOMapper();
     private static final Logger logger = LoggerFactory.getLogger(ConferenceService.class);
+    private static final int MAX_PAGE_LIMIT = 100;
+    private static final int MAX_ASSIGNMENTS = 2000;
+    private static final int MAX_REVIEWERS = 2;
     private static final String CONFERENCE_NOT_FOUND_MSG = "Conference not found with id: ";
     private static final String ACCESS_DENIED_MSG = "Access denied";
 
@@ -286,7 +314,7 @@ public class ConferenceService {
      */
     @Transactional
     void startFinal(UUID conferenceId, SecurityUser securityUser) {
-        Conference conference = findByConferenceIdFetchingConferenceUsersAndPapers(conferenceId);
+        Conference conference = findByConferenceIdFetchingConferenceUsers(conferenceId);
 
         if (!isPCChairAtConference(conference, securityUser.user())) {
             logger.info("User with id: {} is not PC_CHAIR at conference with id: {}", securityUser.user().getId(),
@@ -303,26 +331,58 @@ public class ConferenceService {
 
         conference.setState(ConferenceState.FINAL);
         this.conferenceRepository.save(conference);
+        finalizePapers(conferenceId);
+    }
 
-        conference.getPapers().stream()
-                .filter(paper -> paper.getState().equals(PaperState.APPROVED))
-                .forEach(paper -> {
-                    paper.setState(PaperState.ACCEPTED);
-                    this.paperService.save(paper);
-                });
-
-        conference.getPapers().stream()
-                .filter(paper -> paper.getState().equals(PaperState.REJECTED))
-                .forEach(paper -> {
-                    paper.setState(PaperState.CREATED);
-                    paper.setConference(null);
-                    this.paperService.save(paper);
-                });
-        /*
-            Since the method runs with @Transactional the below save call if the conference's/paper's properties changed
-            is not necessary, since the transaction is tied with the method's execution it will update the
-            conference/papers if it detects changes during the transaction without us having to call save() explicitly.
-         */
+    /*
+        Sets the deadlines of the phases, replacing the previous ones. A null deadline removes it, that phase has to be
+        started by the chair. A deadline in the past is applied by the next run of the scheduler.
+     */
+    @Transactional
+    void updateDeadlines(UUID conferenceId, ConferenceDeadlines deadlines, SecurityUser securityUser) {
+        Conference conference = findByConferenceIdFetchingConferenceUsers(conferenceId);
+
+        if (!isPCChairAtConference(conference, securityUser.user())) {
+            logger.info("User with id: {} is not PC_CHAIR at conference with id: {}", securityUser.user().getId(),
+                    conferenceId);
+
+            throw new AccessDeniedException(ACCESS_DENIED_MSG);
+        }
+
+        validateDeadlines(deadlines);
+        conference.setDeadlines(
+                deadlines.submissionStart(),
+                deadlines.submissionDeadline(),
+                deadlines.assignmentDeadline(),
+                deadlines.reviewDeadline(),
+                deadlines.decisionDeadline());
+        this.conferenceRepository.save(conference);
+    }
+
+    /*
+        Called by ConferenceDeadlineScheduler for a conference the deadline query found. The conference is read again
+        in this transaction, the chair may have started the next phase or changed the deadline since. Moving to FINAL
+        updates the papers like startFinal() does.
+     */
+    @Transactional
+    boolean advanceByDeadline(UUID conferenceId, Instant now) {
+        Conference conference = this.conferenceRepository.findById(conferenceId).orElse(null);
+
+        if (conference == null || conference.getNextDeadline() == null || conference.getNextDeadline().isAfter(now)) {
+            return false;
+        }
+
+        ConferenceState state = conference.getState();
+        ConferenceState next = ConferenceState.values()[state.ordinal() + 1];
+        conference.setState(next);
+        this.conferenceRepository.save(conference);
+        logger.info("Conference with id: {} moved from state: {} to: {} by deadline", conferenceId, state, next);
+
+        if (next.equals(ConferenceState.FINAL)) {
+            finalizePapers(conferenceId);
+        }
+
+        return true;
     }
 
     @Transactional
@@ -343,6 +403,7 @@ public class ConferenceService {
         }
 
         this.roleService.assignRole(toBeAddedUser, RoleType.ROLE_PC_CHAIR);
+        this.conferenceRepository.findByIdForcingVersionIncrement(conferenceId);
 
         ConferenceUser conferenceUser = new ConferenceUser(
                 new ConferenceUserId(conference.getId(), toBeAddedUser.getId()),
@@ -384,6 +445,9 @@ public class ConferenceService {
         paper.setState(PaperState.SUBMITTED);
         paper.setConference(conference);
         this.paperService.save(paper);
+        this.outboxService.append(OutboxEventType.PAPER_SUBMITTED, paper.getId(), Map.of(
+                "paperId", paper.getId(),
+                "conferenceId", conferenceId));
     }
 
     /*
@@ -459,7 +523,7 @@ public class ConferenceService {
             throw new DuplicateResourceException("User already assigned as reviewer to paper with id: " + paperId);
         }
 
-        if (reviewers.size() == 2) {
+        if (reviewers.size() == MAX_REVIEWERS) {
             throw new StateConflictException("Paper has the maximum number of reviewers");
         }
 
@@ -472,6 +536,217 @@ public class ConferenceService {
         this.paperUserRepository.save(paperUser);
     }
 
+    /*
+        Assigns many reviewers in one request, for chairs that distribute hundreds of papers at once. Every assignment
+        is checked with the same rules as assignReviewer(), but the papers and the reviewers are loaded with one query
+        each for the whole request and the rows are inserted with JDBC batches. An assignment that breaks a rule does
+        not fail the request, its result has the reason and the rest are still assigned.
+
+        The reviewers of each paper are updated as the assignments are accepted, so the rules also hold between the
+        assignments of the same request, e.g. a paper with 1 reviewer can only get 1 more even if the request has 3.
+     */
+    @Transactional
+    List<ReviewerAssignmentResult> assignReviewers(UUID conferenceId,
+                                                   List<ReviewerAssignment> assignments,
+                                                   SecurityUser securityUser) {
+        if (assignments == null || assignments.isEmpty() || assignments.size() > MAX_ASSIGNMENTS) {
+            throw new IllegalArgumentException("You must provide between 1 and " + MAX_ASSIGNMENTS + " assignments");
+        }
+
+        Conference conference = findByConferenceIdFetchingConferenceUsers(conferenceId);
+
+        if (!isPCChairAtConference(conference, securityUser.user())) {
+            logger.info("User with id: {} is not PC_CHAIR at conference with id: {}", securityUser.user().getId(),
+                    conferenceId);
+
+            throw new AccessDeniedException(ACCESS_DENIED_MSG);
+        }
+
+        if (!conference.getState().equals(ConferenceState.ASSIGNMENT)) {
+            throw new StateConflictException("Conference is in the state: " + conference.getState().name()
+                    + " and reviewers can not be assigned");
+        }
+
+        Set<Long> paperIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ReviewerAssignment assignment : assignments) {
+            if (assignment.paperId() != null && assignment.userId() != null) {
+                paperIds.add(assignment.paperId());
+                userIds.add(assignment.userId());
+            }
+        }
+
+        Map<Long, Paper> papers = new HashMap<>();
+        Map<Long, Set<Long>> authorIds = new HashMap<>();
+        Map<Long, Set<Long>> reviewerIds = new HashMap<>();
+        Set<Long> userIdsWithReviewerRole = Set.of();
+        if (!paperIds.isEmpty()) {
+            this.paperService.findByConferenceIdAndPaperIdsFetchingPaperUsers(conferenceId, paperIds)
+                    .forEach(paper -> {
+                        papers.put(paper.getId(), paper);
+                        authorIds.put(paper.getId(), findUserIdsByRoleType(paper, RoleType.ROLE_AUTHOR));
+                        reviewerIds.put(paper.getId(), findUserIdsByRoleType(paper, RoleType.ROLE_REVIEWER));
+                    });
+            userIdsWithReviewerRole = this.userService.findUserIdsWithRole(userIds, RoleType.ROLE_REVIEWER);
+        }
+
+        List<ReviewerAssignmentResult> results = new ArrayList<>(assignments.size());
+        List<PaperUser> paperUsers = new ArrayList<>();
+        for (ReviewerAssignment assignment : assignments) {
+            Long paperId = assignment.paperId();
+            Long userId = assignment.userId();
+            String error = null;
+
+            if (paperId == null || userId == null) {
+                error = "You must provide the id of the paper and the id of the user";
+            } else if (!papers.containsKey(paperId)) {
+                error = "Paper with id: " + paperId + " is not submitted to conference with id: " + conferenceId;
+            } else if (!papers.get(paperId).getState().equals(PaperState.SUBMITTED)) {
+                error = "Paper is in state: " + papers.get(paperId).getState() + " and a reviewer can not be assigned";
+            } else if (authorIds.get(paperId).contains(userId)) {
+                error = "User with id: " + userId + " is author of the paper and can not be assigned as a reviewer";
+            } else if (!userIdsWithReviewerRole.contains(userId)) {
+                error = "User is not a reviewer with id: " + userId;
+            } else if (reviewerIds.get(paperId).contains(userId)) {
+                error = "User already assigned as reviewer to paper with id: " + paperId;
+            } else if (reviewerIds.get(paperId).size() >= MAX_REVIEWERS) {
+                error = "Paper has the maximum number of reviewers";
+            }
+
+            if (error != null) {
+                results.add(new ReviewerAssignmentResult(paperId, userId, false, error));
+                continue;
+            }
+
+            reviewerIds.get(paperId).add(userId);
+            paperUsers.add(new PaperUser(
+                    new PaperUserId(paperId, userId),
+                    papers.get(paperId),
+                    null,
+                    RoleType.ROLE_REVIEWER
+            ));
+            results.add(new ReviewerAssignmentResult(paperId, userId, true, null));
+        }
+
+        /*
+            A reviewer assigned by a concurrent request after the papers were loaded is skipped by the insert, it is
+            reported like the ones that were found assigned
+         */
+        Set<PaperUserId> inserted = this.paperUserRepository.insertAll(paperUsers);
+        results.replaceAll(result ->
+                result.assigned() && !inserted.contains(new PaperUserId(result.paperId(), result.userId()))
+                        ? new ReviewerAssignmentResult(result.paperId(), result.userId(), false,
+                        "User already assigned as reviewer to paper with id: " + result.paperId())
+                        : result);
+        logger.info("Assigned {} of {} reviewers at conference with id: {}", inserted.size(), assignments.size(),
+                conferenceId);
+
+        return results;
+    }
+
+    /*
+        Assigns reviewers to all the submitted papers of the conference in one run, see ReviewerAssignmentSolver. Without
+        a maxPapersPerReviewer the load cap is an even share, the reviews the papers need divided by the reviewers and
+        rounded up. The reviewers already assigned, manually or by a previous run, count towards both limits, so the run
+        can be repeated e.g. after more reviewers register.
+     */
+    @Transactional
+    ReviewerAutoAssignmentDTO autoAssignReviewers(UUID conferenceId,
+                                                  Integer maxPapersPerReviewer,
+                                                  SecurityUser securityUser) {
+        if (maxPapersPerReviewer != null && maxPapersPerReviewer < 1) {
+            throw new IllegalArgumentException("The maximum papers per reviewer must be a positive number");
+        }
+
+        Conference conference = findByConferenceIdFetchingConferenceUsers(conferenceId);
+
+        if (!isPCChairAtConference(conference, securityUser.user())) {
+            logger.info("User with id: {} is not PC_CHAIR at conference with id: {}", securityUser.user().getId(),
+                    conferenceId);
+
+            throw new AccessDeniedException(ACCESS_DENIED_MSG);
+        }
+
+        if (!conference.getState().equals(ConferenceState.ASSIGNMENT)) {
+            throw new StateConflictException("Conference is in the state: " + conference.getState().name()
+                    + " and reviewers can not be assigned");
+        }
+
+        Map<Long, Set<Long>> authorIds = new HashMap<>();
+        Map<Long, Set<Long>> reviewerIds = new HashMap<>();
+        Map<Long, Integer> loads = new HashMap<>();
+        for (PaperUserProjection paperUser : this.reviewerAssignmentRepository.findPaperUsers(conferenceId)) {
+            if (paperUser.roleType().equals(RoleType.ROLE_AUTHOR)) {
+                authorIds.computeIfAbsent(paperUser.paperId(), id -> new HashSet<>()).add(paperUser.userId());
+            } else if (paperUser.roleType().equals(RoleType.ROLE_REVIEWER)) {
+                reviewerIds.computeIfAbsent(paperUser.paperId(), id -> new HashSet<>()).add(paperUser.userId());
+                loads.merge(paperUser.userId(), 1, Integer::sum);
+            }
+        }
+
+        Map<Long, Set<String>> reviewedKeywords = this.reviewerAssignmentRepository
+                .findReviewedKeywords(RoleType.ROLE_REVIEWER)
+                .stream()
+                .collect(Collectors.toMap(KeywordsProjection::id, reviewed -> toKeywords(reviewed.keywords())));
+
+        List<ReviewerAssignmentSolver.PaperInput> papers = this.reviewerAssignmentRepository
+                .findPaperKeywords(conferenceId, PaperState.SUBMITTED)
+                .stream()
+                .map(paper -> new ReviewerAssignmentSolver.PaperInput(
+                        paper.id(),
+                        toKeywords(paper.keywords()),
+                        authorIds.getOrDefault(paper.id(), Set.of()),
+                        reviewerIds.getOrDefault(paper.id(), Set.of())))
+                .toList();
+        List<ReviewerAssignmentSolver.ReviewerInput> reviewers = this.reviewerAssignmentRepository
+                .findUserIdsByRoleType(RoleType.ROLE_REVIEWER)
+                .stream()
+                .map(id -> new ReviewerAssignmentSolver.ReviewerInput(
+                        id,
+                        reviewedKeywords.getOrDefault(id, Set.of()),
+                        loads.getOrDefault(id, 0)))
+                .toList();
+
+        int loadCap = 0;
+        if (maxPapersPerReviewer != null) {
+            loadCap = maxPapersPerReviewer;
+        } else if (!reviewers.isEmpty()) {
+            loadCap = (papers.size() * MAX_REVIEWERS + reviewers.size() - 1) / reviewers.size();
+        }
+        List<ReviewerAssignment> assignments = new ReviewerAssignmentSolver(MAX_REVIEWERS, loadCap)
+                .solve(papers, reviewers);
+
+        List<PaperUser> paperUsers = new ArrayList<>(assignments.size());
+        for (ReviewerAssignment assignment : assignments) {
+            paperUsers.add(new PaperUser(
+                    new PaperUserId(assignment.paperId(), assignment.userId()),
+                    null,
+                    null,
+                    RoleType.ROLE_REVIEWER
+            ));
+        }
+
+        /*
+            Assignments made by a concurrent request after the run loaded the papers are skipped by the insert and
+            left out of the result
+         */
+        Set<PaperUserId> inserted = this.paperUserRepository.insertAll(paperUsers);
+        assignments = assignments.stream()
+                .filter(assignment -> inserted.contains(new PaperUserId(assignment.paperId(), assignment.userId())))
+                .toList();
+        Map<Long, Integer> assigned = new HashMap<>();
+        assignments.forEach(assignment -> assigned.merge(assignment.paperId(), 1, Integer::sum));
+
+        List<Long> incompletePaperIds = papers.stream()
+                .filter(paper -> paper.reviewerIds().size() + assigned.getOrDefault(paper.id(), 0) < MAX_REVIEWERS)
+                .map(ReviewerAssignmentSolver.PaperInput::id)
+                .toList();
+        logger.info("Assigned {} reviewers to {} papers at conference with id: {}, {} papers are incomplete",
+                assignments.size(), papers.size(), conferenceId, incompletePaperIds.size());
+
+        return new ReviewerAutoAssignmentDTO(assignments, incompletePaperIds);
+    }
+
     @Transactional
     void updatePaperApprovalStatus(UUID conferenceId,
                                    Long paperId,
@@ -510,9 +785,62 @@ public class ConferenceService {
         }
 
         this.paperService.save(paper);
+        this.outboxService.append(decision.equals(ReviewDecision.APPROVED) ? OutboxEventType.PAPER_APPROVED
+                : OutboxEventType.PAPER_REJECTED, paper.getId(), Map.of(
+                "paperId", paper.getId(),
+                "conferenceId", conferenceId));
     }
 
 
+    /*
+        The PC chair is authorized once for the whole archive, the papers of the conference and their contents are read
+        with a single query. The name of an entry is the id of the paper followed by the name of the file as it was
+        uploaded, without any directories, so that two papers with the same file name don't collide.
+     */
+    @Transactional(readOnly = true)
+    List<ArchiveEntry> findPaperArchiveEntries(UUID conferenceId, SecurityUser securityUser) {
+        Conference conference = findByConferenceIdFetchingConferenceUsers(conferenceId);
+
+        if (!isPCChairAtConference(conference, securityUser.user())) {
+            logger.info("User with id: {} is not PC_CHAIR at conference with id: {}", securityUser.user().getId(),
+                    conferenceId);
+
+            throw new AccessDeniedException(ACCESS_DENIED_MSG);
+        }
+
+        return this.contentRepository.findByConferenceIdFetchingPaper(conferenceId).stream()
+                .map(content -> {
+                    String originalFileName = content.getOriginalFileName();
+                    String name = originalFileName.substring(Math.max(originalFileName.lastIndexOf('/'),
+                            originalFileName.lastIndexOf('\\')) + 1);
+
+                    return new ArchiveEntry(
+                            content.getId() + "_" + (name.isBlank() ? "paper" + content.getFileExtension() : name),
+                            content.getGeneratedFileName(),
+                            content.getFileExtension(),
+                            content.getEncoding());
+                })
+                .toList();
+    }
+
+    /*
+        The ETag of findConferenceById(). Everyone gets the same view for the same version, except the PC chairs of the
+        conference who also see the papers, so for them the digest of the versions of the papers is part of the ETag.
+     */
+    String findConferenceETag(UUID conferenceId, SecurityContext securityContext) {
+        Long version = this.conferenceRepository.findVersionById(conferenceId).orElseThrow(() ->
+                new ResourceNotFoundException(CONFERENCE_NOT_FOUND_MSG + conferenceId)
+        );
+
+        if (securityContext.getAuthentication().getPrincipal() instanceof SecurityUser securityUser
+                && this.conferenceUserRepository.existsById(new ConferenceUserId(conferenceId,
+                securityUser.user().getId()))) {
+            return version + "-pc-chair-" + this.conferenceRepository.findPapersDigestById(conferenceId);
+        }
+
+        return version + "-public";
+    }
+
     ConferenceDTO findConferenceById(UUID conferenceId, SecurityContext securityContext) {
         Conference conference = findByConferenceIdFetchingConferenceUsersAndPapers(conferenceId);
 
@@ -532,25 +860,57 @@ public class ConferenceService {
     /*
         For every conference that is returned if the requesting user is PCChair at that conference we need to return
         more properties like the papers and their reviews.
+
+        Keyset pagination on the name of the conference, names are unique. We ask for one conference more than the limit
+        to know if there is a next page without a COUNT query. The conferences of the page are found first without any
+        collection, then their users are loaded with one query, and the papers with another one only for the
+        conferences where the requesting user is PC chair, the rest of the page never loads a paper. The method is
+        transactional so those queries initialize the collections of the conferences of the first query.
+
+        Guests only get the public ConferenceDTO, so for them we select its columns directly without loading any entity.
      */
-    List<ConferenceDTO> findConferences(String name, String description, SecurityContext securityContext) {
-        ConferenceSpecs conferenceSpecs = new ConferenceSpecs(name, description);
-        List<Conference> conferences = this.conferenceRepository.findAll(conferenceSpecs, Sort.by("name"));
+    @Transactional(readOnly = true)
+    ConferencePage findConferences(String name,
+                                   String description,
+                                   String cursor,
+                                   int limit,
+                                   SecurityContext securityContext) {
+        validateLimit(limit);
+
+        ConferenceCursor conferenceCursor = cursor == null ? null : ConferenceCursor.decode(cursor);
+        if (!(securityContext.getAuthentication().getPrincipal() instanceof SecurityUser securityUser)) {
+            return toPage(findConferenceDTOs(name, description, conferenceCursor, limit + 1), limit);
+        }
+
+        ConferenceSpecs conferenceSpecs = new ConferenceSpecs(name, description, conferenceCursor);
+        List<Conference> conferences = this.conferenceRepository.findBy(conferenceSpecs, query -> query
+                .sortBy(Sort.by("name"))
+                .limit(limit + 1)
+                .all());
+        List<Conference> page = conferences.size() > limit ? conferences.subList(0, limit) : conferences;
+
+        if (page.isEmpty()) {
+            return new ConferencePage(List.of(), null);
+        }
+        this.conferenceRepository.fetchConferenceUsersForConferences(page);
+
+        List<Conference> chairedConferences = page.stream()
+                .filter(conference -> isPCChairAtConference(conference, securityUser.user()))
+                .toList();
+        if (!chairedConferences.isEmpty()) {
+            this.conferenceRepository.fetchPapersForConferences(chairedConferences);
+        }
 
         /*
             Case: If the current user is PCChair at any of the returned conferences we return more properties, otherwise
             we return public information about the conferences.
          */
-        if (securityContext.getAuthentication().getPrincipal() instanceof SecurityUser securityUser) {
-            return conferences.stream()
-                    .map(conference -> associateUser(conference, securityUser.user()))
-                    .toList();
-        }
-
-        // Guest user
-        return conferences.stream()
-                .map(this.conferenceDTOMapper::convert)
+        List<ConferenceDTO> conferenceDTOs = page.stream()
+                .map(conference -> associateUser(conference, securityUser.user()))
                 .toList();
+        String next = conferences.size() > limit ? new ConferenceCursor(page.get(limit - 1).getName()).encode() : null;
+
+        return new ConferencePage(conferenceDTOs, next);
     }
 
     @Transactional
@@ -602,4 +962,116 @@ public class ConferenceService {
         return isPCChairAtConference(conference, user) ? this.pcChairConferenceDTOMapper.convert(conference) :
                 this.conferenceDTOMapper.convert(conference);
     }
+
+    /*
+        The users of the conferences are selected as one row per user and role and grouped here. They are sorted by id
+        same as in the ConferenceDTOMapper.
+     */
+    private List<ConferenceDTO> findConferenceDTOs(String name,
+                                                   String description,
+                                                   ConferenceCursor conferenceCursor,
+                                                   int limit) {
+        List<ConferenceDTO> conferences = this.conferenceRepository.findConferenceDTOs(
+                name.isBlank() ? "" : name.toLowerCase(),
+                description.isBlank() ? "" : description.toLowerCase(),
+                conferenceCursor == null ? "" : conferenceCursor.name(),
+                PageRequest.ofSize(limit));
+
+        if (conferences.isEmpty()) {
+            return conferences;
+        }
+
+        List<UUID> ids = conferences.stream()
+                .map(ConferenceDTO::getId)
+                .toList();
+        Map<UUID, Map<Long, UserDTO>> usersByConference = new HashMap<>();
+        for (ConferenceUserProjection row : this.conferenceRepository.findConferenceUserProjections(ids)) {
+            UserDTO user = usersByConference.computeIfAbsent(row.conferenceId(), key -> new TreeMap<>())
+                    .computeIfAbsent(row.userId(), key -> new UserDTO(
+                            row.userId(),
+                            row.username(),
+                            row.fullName(),
+                            new HashSet<>()));
+
+            if (row.roleType() != null) {
+                user.roleTypes().add(row.roleType());
+            }
+        }
+
+        conferences.forEach(conference -> conference.setUsers(new LinkedHashSet<>(
+                usersByConference.getOrDefault(conference.getId(), Map.of()).values())));
+
+        return conferences;
+    }
+
+    private ConferencePage toPage(List<ConferenceDTO> results, int limit) {
+        if (results.size() <= limit) {
+            return new ConferencePage(results, null);
+        }
+
+        List<ConferenceDTO> page = results.subList(0, limit);
+        return new ConferencePage(page, new ConferenceCursor(page.get(limit - 1).getName()).encode());
+    }
+
+    /*
+        One UPDATE per transition instead of loading every paper and updating them one by one, the round trips no longer
+        depend on the number of papers. The change of the conference's state is flushed before them.
+     */
+    private void finalizePapers(UUID conferenceId) {
+        int accepted = this.paperService.updateStateByConferenceId(conferenceId, PaperState.APPROVED,
+                PaperState.ACCEPTED);
+        int rejected = this.paperService.updateStateAndRemoveConferenceByConferenceId(conferenceId,
+                PaperState.REJECTED, PaperState.CREATED);
+        logger.info("Conference with id: {} is final, {} papers were accepted and {} were rejected", conferenceId,
+                accepted, rejected);
+
+        /*
+            The papers are updated in bulk, without loading them, so there is one event for the conference with the
+            counts instead of one per paper. The consumers read the accepted papers of the conference if they need them.
+         */
+        this.outboxService.append(OutboxEventType.CONFERENCE_FINALIZED, conferenceId, Map.of(
+                "conferenceId", conferenceId,
+                "accepted", accepted,
+                "rejected", rejected));
+    }
+
+    private void validateDeadlines(ConferenceDeadlines deadlines) {
+        Instant previous = null;
+
+        for (Instant deadline : Arrays.asList(
+                deadlines.submissionStart(),
+                deadlines.submissionDeadline(),
+                deadlines.assignmentDeadline(),
+                deadlines.reviewDeadline(),
+                deadlines.decisionDeadline())) {
+            if (deadline == null) {
+                continue;
+            }
+
+            if (previous != null && !deadline.isAfter(previous)) {
+                throw new IllegalArgumentException("The deadlines must follow the order of the phases");
+            }
+            previous = deadline;
+        }
+    }
+
+    private Set<String> toKeywords(String keywordsCsv) {
+        return Arrays.stream(keywordsCsv.split(","))
+                .map(keyword -> keyword.trim().toLowerCase())
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Long> findUserIdsByRoleType(Paper paper, RoleType roleType) {
+        return paper.getPaperUsers().stream()
+                .filter(paperUser -> paperUser.getRoleType().equals(roleType))
+                .map(paperUser -> paperUser.getId().getUserId())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+    }
 }
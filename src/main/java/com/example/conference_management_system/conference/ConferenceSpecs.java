@@ -2,14 +2,10 @@ package com.example.conference_management_system.conference;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Fetch;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import com.example.conference_management_system.entity.Conference;
-import com.example.conference_management_system.entity.ConferenceUser;
-import com.example.conference_management_system.entity.User;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,24 +14,26 @@ import org.springframework.data.jpa.domain.Specification;
 
 /*
     The findAll() endpoint can have optional query parameters to filter the conferences. We build the query dynamically
-    and handling the potential N+1 query problems using Specifications and Criteria API.
+    using Specifications and Criteria API.
+
+    The specification only selects the matching conferences of a page. Fetching conferenceUsers -> user -> roles and
+    papers in the same query would return conferenceUsers x roles x papers rows per conference, so the collections are
+    loaded afterward for the conferences of the page with one query each.
  */
 public class ConferenceSpecs implements Specification<Conference> {
     private final String name;
     private final String description;
+    private final ConferenceCursor cursor;
 
-    public ConferenceSpecs(String name, String description) {
+    public ConferenceSpecs(String name, String description, ConferenceCursor cursor) {
         this.name = name;
         this.description = description;
+        this.cursor = cursor;
     }
 
     @Override
     public Predicate toPredicate(Root<Conference> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         List<Predicate> predicates = new ArrayList<>();
-        Fetch<Conference, ConferenceUser> conferenceUsersFetch = root.fetch("conferenceUsers", JoinType.INNER);
-        Fetch<ConferenceUser, User> userFetch = conferenceUsersFetch.fetch("user", JoinType.INNER);
-        userFetch.fetch("roles", JoinType.INNER);
-        root.fetch("papers", JoinType.LEFT);
 
         /*
             Case-insensitive searching
@@ -50,6 +48,13 @@ public class ConferenceSpecs implements Specification<Conference> {
                     "%" + this.description.toLowerCase() + "%"));
         }
 
+        /*
+            Keyset pagination, the conferences after the last one of the previous page
+         */
+        if (this.cursor != null) {
+            predicates.add(criteriaBuilder.greaterThan(root.get("name"), this.cursor.name()));
+        }
+
         predicates.add(root.isNotNull());
         Predicate[] predicatesArr = predicates.toArray(new Predicate[0]);
 
@@ -0,0 +1,58 @@
+package com.example.conference_management_system.conference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/*
+    A lock per conference in the Redis shared by all the nodes, so only one node applies a deadline transition. It is
+    acquired with SET NX and an expiry, a node that dies holding it does not block the conference for longer than the
+    ttl. It is released with a script that deletes the key only if it still has the token of the holder, otherwise a
+    node whose lock expired would release the lock another node acquired since.
+
+    The ttl must be longer than a transition takes. If it is not, the row version still rejects the second update.
+ */
+@Component
+class ConferenceTransitionLock {
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private static final String KEY_PREFIX = "conferences:transition:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    ConferenceTransitionLock(StringRedisTemplate redisTemplate,
+                             @Value("${conferences.deadlines.lock-ttl:5m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /*
+        Runs the action if the lock of the conference is free and returns false without running it otherwise
+     */
+    boolean runIfAcquired(UUID conferenceId, Runnable action) {
+        String key = KEY_PREFIX + conferenceId;
+        String token = UUID.randomUUID().toString();
+
+        if (!Boolean.TRUE.equals(this.redisTemplate.opsForValue().setIfAbsent(key, token, this.ttl))) {
+            return false;
+        }
+
+        try {
+            action.run();
+        } finally {
+            this.redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.conference_management_system.conference;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import com.example.conference_management_system.conference.dto.KeywordsProjection;
+import com.example.conference_management_system.conference.dto.PaperUserProjection;
+import com.example.conference_management_system.entity.Paper;
+import com.example.conference_management_system.paper.PaperState;
+import com.example.conference_management_system.role.RoleType;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+    Read only queries for the automatic assignment of reviewers. A large conference has thousands of papers and
+    reviewers, so only the columns the solver needs are selected instead of loading them as entities.
+ */
+interface ReviewerAssignmentRepository extends Repository<Paper, Long> {
+
+    @Query("""
+                SELECT new com.example.conference_management_system.conference.dto.KeywordsProjection(p.id, p.keywords)
+                FROM Paper p
+                WHERE p.conference.id = :conferenceId AND p.state = :state
+            """)
+    List<KeywordsProjection> findPaperKeywords(@Param("conferenceId") UUID conferenceId,
+                                               @Param("state") PaperState state);
+
+    @Query("""
+                SELECT new com.example.conference_management_system.conference.dto.PaperUserProjection(
+                    pu.id.paperId, pu.id.userId, pu.roleType)
+                FROM PaperUser pu
+                WHERE pu.paper.conference.id = :conferenceId
+            """)
+    List<PaperUserProjection> findPaperUsers(@Param("conferenceId") UUID conferenceId);
+
+    @Query("""
+                SELECT u.id
+                FROM User u
+                JOIN u.roles r
+                WHERE r.type = :type
+            """)
+    List<Long> findUserIdsByRoleType(@Param("type") RoleType type);
+
+    /*
+        One row per reviewer with the keywords of the papers they reviewed, the id is the id of the reviewer. The
+        keywords are aggregated by the database(string_agg on PostgreSQL), so the rows are as many as the reviewers and
+        not as the reviews in the system. Users without the reviewer role are not candidates, their reviews are skipped.
+     */
+    @Query("""
+                SELECT new com.example.conference_management_system.conference.dto.KeywordsProjection(
+                    u.id, listagg(DISTINCT p.keywords, ','))
+                FROM Review r
+                JOIN r.user u
+                JOIN u.roles ro
+                JOIN r.paper p
+                WHERE ro.type = :type AND p.keywords IS NOT NULL
+                GROUP BY u.id
+            """)
+    List<KeywordsProjection> findReviewedKeywords(@Param("type") RoleType type);
+}
@@ -0,0 +1,335 @@
+package com.example.conference_management_system.conference;
+
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/*
+    Computes the reviewers of all the submitted papers of a conference in one run as a min-cost flow:
+
+        source -> paper -> reviewer -> sink
+
+    The source gives every paper the reviewers it is missing, a reviewer takes at most the papers left under the load
+    cap and each paper-reviewer edge carries at most one assignment. The cost of an edge is lower the more keywords of
+    the paper appear in the papers the reviewer has reviewed. The flow fills as many reviewer slots as the caps allow and
+    among those assignments picks the one with the lowest total cost, which assigning paper by paper does not, the
+    first papers take the reviewers the later ones needed.
+
+    A complete graph would have papers x reviewers edges, 5M for a large conference, so every paper only gets edges to
+    a few candidates: the reviewers with the most keywords in common and a window of other reviewers, shifted for every
+    paper, so the reviewers without a matching history share the remaining load evenly. Authors of the paper and its
+    current reviewers are never candidates. The result is optimal for the candidate graph, not for the complete one.
+
+    Primal-dual: Dijkstra over the reduced costs updates the potentials, then Dinic pushes a blocking flow over the
+    edges with zero reduced cost. All the augmenting paths of the same cost are found in one phase and the costs are
+    small integers, so there are only a few phases.
+ */
+final class ReviewerAssignmentSolver {
+    private final int reviewersPerPaper;
+    private final int maxPapersPerReviewer;
+    private static final int MAX_MATCHING_CANDIDATES = 24;
+    private static final int OTHER_CANDIDATES = 8;
+    private static final int MAX_COST = 8;
+    private static final int INF = Integer.MAX_VALUE;
+
+    ReviewerAssignmentSolver(int reviewersPerPaper, int maxPapersPerReviewer) {
+        this.reviewersPerPaper = reviewersPerPaper;
+        this.maxPapersPerReviewer = maxPapersPerReviewer;
+    }
+
+    /*
+        The keywords are expected normalized, the same keyword must be the same string in papers and reviewers
+     */
+    record PaperInput(Long id, Set<String> keywords, Set<Long> authorIds, Set<Long> reviewerIds) {
+    }
+
+    /*
+        The load is the number of papers of the conference the reviewer is already assigned to
+     */
+    record ReviewerInput(Long id, Set<String> keywords, int load) {
+    }
+
+    List<ReviewerAssignment> solve(List<PaperInput> papers, List<ReviewerInput> reviewers) {
+        int paperCount = papers.size();
+        int reviewerCount = reviewers.size();
+        if (paperCount == 0 || reviewerCount == 0) {
+            return List.of();
+        }
+
+        int source = 0;
+        int sink = paperCount + reviewerCount + 1;
+        FlowNetwork network = new FlowNetwork(sink + 1,
+                paperCount * (MAX_MATCHING_CANDIDATES + OTHER_CANDIDATES) + paperCount + reviewerCount);
+
+        int[] capacities = new int[reviewerCount];
+        for (int r = 0; r < reviewerCount; r++) {
+            capacities[r] = Math.max(0, this.maxPapersPerReviewer - reviewers.get(r).load());
+            if (capacities[r] > 0) {
+                network.addEdge(paperCount + 1 + r, sink, capacities[r], 0);
+            }
+        }
+
+        Map<String, List<Integer>> index = new HashMap<>();
+        for (int r = 0; r < reviewerCount; r++) {
+            if (capacities[r] > 0) {
+                for (String keyword : reviewers.get(r).keywords()) {
+                    index.computeIfAbsent(keyword, k -> new ArrayList<>()).add(r);
+                }
+            }
+        }
+
+        List<int[]> candidateEdges = new ArrayList<>();
+        int[] overlaps = new int[reviewerCount];
+        boolean[] candidate = new boolean[reviewerCount];
+        for (int p = 0; p < paperCount; p++) {
+            PaperInput paper = papers.get(p);
+            int missing = this.reviewersPerPaper - paper.reviewerIds().size();
+            if (missing <= 0) {
+                continue;
+            }
+            network.addEdge(source, p + 1, missing, 0);
+
+            List<Integer> touched = new ArrayList<>();
+            for (String keyword : paper.keywords()) {
+                for (int r : index.getOrDefault(keyword, List.of())) {
+                    if (overlaps[r]++ == 0) {
+                        touched.add(r);
+                    }
+                }
+            }
+            touched.sort((a, b) -> overlaps[a] != overlaps[b] ? Integer.compare(overlaps[b], overlaps[a])
+                    : Integer.compare(a, b));
+
+            List<Integer> candidates = new ArrayList<>();
+            for (int r : touched) {
+                if (candidates.size() < MAX_MATCHING_CANDIDATES && isEligible(paper, reviewers.get(r))) {
+                    candidates.add(r);
+                    candidate[r] = true;
+                    int edge = network.addEdge(p + 1, paperCount + 1 + r, 1, cost(overlaps[r]));
+                    candidateEdges.add(new int[]{edge, p, r});
+                }
+            }
+
+            int others = 0;
+            int start = (int) ((long) p * OTHER_CANDIDATES % reviewerCount);
+            for (int i = 0; i < reviewerCount && others < OTHER_CANDIDATES; i++) {
+                int r = (start + i) % reviewerCount;
+                if (!candidate[r] && capacities[r] > 0 && isEligible(paper, reviewers.get(r))) {
+                    others++;
+                    candidates.add(r);
+                    candidate[r] = true;
+                    int edge = network.addEdge(p + 1, paperCount + 1 + r, 1, cost(overlaps[r]));
+                    candidateEdges.add(new int[]{edge, p, r});
+                }
+            }
+
+            touched.forEach(r -> overlaps[r] = 0);
+            candidates.forEach(r -> candidate[r] = false);
+        }
+
+        network.minCostMaxFlow(source, sink);
+
+        List<ReviewerAssignment> assignments = new ArrayList<>();
+        for (int[] candidateEdge : candidateEdges) {
+            if (network.hasFlow(candidateEdge[0])) {
+                assignments.add(new ReviewerAssignment(
+                        papers.get(candidateEdge[1]).id(),
+                        reviewers.get(candidateEdge[2]).id()));
+            }
+        }
+
+        return assignments;
+    }
+
+    private boolean isEligible(PaperInput paper, ReviewerInput reviewer) {
+        return !paper.authorIds().contains(reviewer.id()) && !paper.reviewerIds().contains(reviewer.id());
+    }
+
+    private int cost(int overlap) {
+        return MAX_COST - Math.min(overlap, MAX_COST);
+    }
+
+    /*
+        Residual graph in arrays, edge e and e ^ 1 are an edge and its reverse
+     */
+    private static final class FlowNetwork {
+        private final int nodeCount;
+        private final int[] head;
+        private int[] next;
+        private int[] to;
+        private int[] capacity;
+        private int[] cost;
+        private int edgeCount;
+
+        private FlowNetwork(int nodeCount, int expectedEdges) {
+            this.nodeCount = nodeCount;
+            this.head = new int[nodeCount];
+            Arrays.fill(this.head, -1);
+            this.next = new int[2 * expectedEdges];
+            this.to = new int[2 * expectedEdges];
+            this.capacity = new int[2 * expectedEdges];
+            this.cost = new int[2 * expectedEdges];
+        }
+
+        private int addEdge(int from, int target, int edgeCapacity, int edgeCost) {
+            if (this.edgeCount + 2 > this.to.length) {
+                int length = this.to.length * 2 + 2;
+                this.next = Arrays.copyOf(this.next, length);
+                this.to = Arrays.copyOf(this.to, length);
+                this.capacity = Arrays.copyOf(this.capacity, length);
+                this.cost = Arrays.copyOf(this.cost, length);
+            }
+            int edge = this.edgeCount;
+            link(edge, from, target, edgeCapacity, edgeCost);
+            link(edge + 1, target, from, 0, -edgeCost);
+            this.edgeCount += 2;
+
+            return edge;
+        }
+
+        private boolean hasFlow(int edge) {
+            return this.capacity[edge ^ 1] > 0;
+        }
+
+        private void minCostMaxFlow(int source, int sink) {
+            int[] potential = new int[this.nodeCount];
+            int[] distance = new int[this.nodeCount];
+            int[] level = new int[this.nodeCount];
+            int[] current = new int[this.nodeCount];
+            int[] path = new int[this.nodeCount];
+
+            while (shortestDistances(source, sink, potential, distance)) {
+                int sinkDistance = distance[sink];
+                for (int v = 0; v < this.nodeCount; v++) {
+                    potential[v] += Math.min(distance[v], sinkDistance);
+                }
+
+                while (levels(source, sink, potential, level)) {
+                    System.arraycopy(this.head, 0, current, 0, this.nodeCount);
+                    blockingFlow(source, sink, potential, level, current, path);
+                }
+            }
+        }
+
+        /*
+            Dijkstra over the reduced costs, which are never negative. Stops once the sink is settled, the nodes not
+            settled by then are at least as far as the sink, which is all the potential update needs.
+         */
+        private boolean shortestDistances(int source, int sink, int[] potential, int[] distance) {
+            Arrays.fill(distance, INF);
+            distance[source] = 0;
+            PriorityQueue<Long> queue = new PriorityQueue<>();
+            queue.add((long) source);
+
+            while (!queue.isEmpty()) {
+                long entry = queue.poll();
+                int u = (int) entry;
+                int d = (int) (entry >>> 32);
+                if (d > distance[u]) {
+                    continue;
+                }
+                if (u == sink) {
+                    return true;
+                }
+                for (int e = this.head[u]; e != -1; e = this.next[e]) {
+                    if (this.capacity[e] > 0) {
+                        int v = this.to[e];
+                        int candidate = d + reducedCost(e, potential);
+                        if (candidate < distance[v]) {
+                            distance[v] = candidate;
+                            queue.add(((long) candidate << 32) | v);
+                        }
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        /*
+            BFS levels over the admissible edges, the ones with capacity left and zero reduced cost. The levels keep
+            the blocking flow out of the zero cost cycles the reverse edges form.
+         */
+        private boolean levels(int source, int sink, int[] potential, int[] level) {
+            Arrays.fill(level, -1);
+            level[source] = 0;
+            int[] queue = new int[this.nodeCount];
+            int tail = 0;
+            queue[tail++] = source;
+
+            for (int headIndex = 0; headIndex < tail; headIndex++) {
+                int u = queue[headIndex];
+                for (int e = this.head[u]; e != -1; e = this.next[e]) {
+                    int v = this.to[e];
+                    if (level[v] == -1 && this.capacity[e] > 0 && reducedCost(e, potential) == 0) {
+                        level[v] = level[u] + 1;
+                        queue[tail++] = v;
+                    }
+                }
+            }
+
+            return level[sink] != -1;
+        }
+
+        /*
+            Iterative, an augmenting path can alternate through thousands of papers and reviewers
+         */
+        private void blockingFlow(int source, int sink, int[] potential, int[] level, int[] current, int[] path) {
+            int depth = 0;
+            int u = source;
+
+            while (true) {
+                if (u == sink) {
+                    int flow = INF;
+                    for (int i = 0; i < depth; i++) {
+                        flow = Math.min(flow, this.capacity[path[i]]);
+                    }
+                    for (int i = 0; i < depth; i++) {
+                        this.capacity[path[i]] -= flow;
+                        this.capacity[path[i] ^ 1] += flow;
+                    }
+                    depth = 0;
+                    u = source;
+                    continue;
+                }
+
+                int e = current[u];
+                while (e != -1 && !(this.capacity[e] > 0
+                        && level[this.to[e]] == level[u] + 1
+                        && reducedCost(e, potential) == 0)) {
+                    e = this.next[e];
+                }
+                current[u] = e;
+
+                if (e != -1) {
+                    path[depth++] = e;
+                    u = this.to[e];
+                } else {
+                    level[u] = -1;
+                    if (depth == 0) {
+                        return;
+                    }
+                    u = this.to[path[--depth] ^ 1];
+                }
+            }
+        }
+
+        private int reducedCost(int edge, int[] potential) {
+            return this.cost[edge] + potential[this.to[edge ^ 1]] - potential[this.to[edge]];
+        }
+
+        private void link(int edge, int from, int target, int edgeCapacity, int edgeCost) {
+            this.to[edge] = target;
+            this.capacity[edge] = edgeCapacity;
+            this.cost[edge] = edgeCost;
+            this.next[edge] = this.head[from];
+            this.head[from] = edge;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -19,4 +20,11 @@ public class ConferenceDTO {
     private String name;
     private String description;
     private Set<UserDTO> users;
+
+    /*
+        Used by the constructor expression of ConferenceRepository.findConferenceDTOs(), the users are set afterward.
+     */
+    public ConferenceDTO(UUID id, String name, String description) {
+        this(id, name, description, new LinkedHashSet<>());
+    }
 }
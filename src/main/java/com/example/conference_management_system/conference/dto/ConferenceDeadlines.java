@@ -0,0 +1,16 @@
+package com.example.conference_management_system.conference.dto;
+
+import java.time.Instant;
+
+/*
+    Every deadline is optional, a phase without one is started by the chair. The ones provided must follow the order of
+    the phases.
+ */
+public record ConferenceDeadlines(
+        Instant submissionStart,
+        Instant submissionDeadline,
+        Instant assignmentDeadline,
+        Instant reviewDeadline,
+        Instant decisionDeadline
+) {
+}
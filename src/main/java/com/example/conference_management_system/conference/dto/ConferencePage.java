@@ -0,0 +1,9 @@
+package com.example.conference_management_system.conference.dto;
+
+import java.util.List;
+
+/*
+    next is the opaque cursor of the following page. It is null when the current page is the last one.
+ */
+public record ConferencePage(List<ConferenceDTO> conferences, String next) {
+}
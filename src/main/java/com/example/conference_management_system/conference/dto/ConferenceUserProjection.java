@@ -0,0 +1,15 @@
+package com.example.conference_management_system.conference.dto;
+
+import com.example.conference_management_system.role.RoleType;
+
+import java.util.UUID;
+
+/*
+    One row per conference user and role. The roleType is null for a user without roles because of the LEFT JOIN.
+ */
+public record ConferenceUserProjection(UUID conferenceId,
+                                       Long userId,
+                                       String username,
+                                       String fullName,
+                                       RoleType roleType) {
+}
@@ -0,0 +1,7 @@
+package com.example.conference_management_system.conference.dto;
+
+/*
+    The keywords csv of a paper, or of a paper reviewed by the user with the id
+ */
+public record KeywordsProjection(Long id, String keywords) {
+}
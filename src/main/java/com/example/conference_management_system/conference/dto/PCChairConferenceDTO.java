@@ -15,6 +15,7 @@ import java.util.UUID;
 public class PCChairConferenceDTO extends ConferenceDTO {
     private ConferenceState conferenceState;
     private Set<PCChairPaperDTO> papers;
+    private ConferenceDeadlines deadlines;
 
     public PCChairConferenceDTO(
             UUID id,
@@ -0,0 +1,6 @@
+package com.example.conference_management_system.conference.dto;
+
+import com.example.conference_management_system.role.RoleType;
+
+public record PaperUserProjection(Long paperId, Long userId, RoleType roleType) {
+}
@@ -0,0 +1,7 @@
+package com.example.conference_management_system.conference.dto;
+
+public record ReviewerAssignment(
+        Long paperId,
+        Long userId
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.conference_management_system.conference.dto;
+
+/*
+    The outcome of one assignment of a bulk request. When the reviewer was not assigned the message is the reason, the
+    same one the single assignment would have failed with.
+ */
+public record ReviewerAssignmentResult(
+        Long paperId,
+        Long userId,
+        boolean assigned,
+        String message
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.conference_management_system.conference.dto;
+
+import java.util.List;
+
+/*
+    The assignments the run made and the papers that still have fewer reviewers than the limit, because not enough
+    reviewers without a conflict had load left
+ */
+public record ReviewerAutoAssignmentDTO(
+        List<ReviewerAssignment> assignments,
+        List<Long> incompletePaperIds
+) {
+}
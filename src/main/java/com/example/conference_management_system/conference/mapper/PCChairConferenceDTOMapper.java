@@ -1,5 +1,6 @@
 package com.example.conference_management_system.conference.mapper;
 
+import com.example.conference_management_system.conference.dto.ConferenceDeadlines;
 import com.example.conference_management_system.conference.dto.PCChairConferenceDTO;
 import com.example.conference_management_system.entity.Conference;
 import com.example.conference_management_system.paper.dto.PCChairPaperDTO;
@@ -29,7 +30,7 @@ public class PCChairConferenceDTOMapper implements Converter<Conference, PCChair
                 .map(this.pcChairPaperDTOMapper::convert)
                 .collect(Collectors.toSet());
 
-        return new PCChairConferenceDTO(
+        PCChairConferenceDTO conferenceDTO = new PCChairConferenceDTO(
                 conference.getId(),
                 conference.getName(),
                 conference.getDescription(),
@@ -37,5 +38,13 @@ public class PCChairConferenceDTOMapper implements Converter<Conference, PCChair
                 conference.getState(),
                 papers
         );
+        conferenceDTO.setDeadlines(new ConferenceDeadlines(
+                conference.getSubmissionStart(),
+                conference.getSubmissionDeadline(),
+                conference.getAssignmentDeadline(),
+                conference.getReviewDeadline(),
+                conference.getDecisionDeadline()));
+
+        return conferenceDTO;
     }
 }
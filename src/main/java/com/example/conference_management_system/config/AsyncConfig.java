@@ -0,0 +1,16 @@
+package com.example.conference_management_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+    @Async methods run on the task executor that Spring Boot configures(spring.task.execution), @Scheduled ones on the
+    task scheduler(spring.task.scheduling). The scheduler has a single thread by default, its pool size in
+    application.yaml has to grow with the number of @Scheduled jobs, otherwise a long job delays all the others.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,50 @@
+package com.example.conference_management_system.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import com.example.conference_management_system.paper.dto.PaperDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+
+/*
+    The caches are stored in the same Redis as the sessions. The values are serialized as JSON with the ObjectMapper of
+    the application, so the LocalDate of the PaperDTO is written the same way as in the responses.
+
+    The cache manager is transaction aware, an eviction inside a transaction happens after the commit. Otherwise, a
+    concurrent read could put the old values back in the cache before the transaction commits.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    /*
+        Public PaperDTO, the one returned to guests and users that are not in a relationship with the paper, by paper id
+     */
+    public static final String PAPERS_CACHE = "papers";
+
+    @Bean
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                          ObjectMapper objectMapper,
+                                          @Value("${papers.cache.ttl:10m}") Duration ttl) {
+        return RedisCacheManager.builder(connectionFactory)
+                .withCacheConfiguration(PAPERS_CACHE, papersCacheConfiguration(objectMapper, ttl))
+                .transactionAware()
+                .build();
+    }
+
+    RedisCacheConfiguration papersCacheConfiguration(ObjectMapper objectMapper, Duration ttl) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, PaperDTO.class)));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.conference_management_system.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -31,11 +32,18 @@ public class SecurityConfig {
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.authorizeHttpRequests(authorize -> {
-                    authorize.requestMatchers(HttpMethod.GET, "/api/v1/papers", "/api/v1/papers/{id}").permitAll();
+                    authorize.requestMatchers(HttpMethod.GET, "/api/v1/papers", "/api/v1/papers/{id}",
+                            "/api/v1/papers/export").permitAll();
+                    authorize.requestMatchers(HttpMethod.GET, "/api/v1/conferences/{id}/papers/archive").authenticated();
                     authorize.requestMatchers(HttpMethod.GET, "/api/v1/conferences/**").permitAll();
                     authorize.requestMatchers(HttpMethod.GET, "/api/v1/users/**").permitAll();
                     authorize.requestMatchers("/api/v1/auth/**").permitAll();
                     authorize.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll();
+                    /*
+                        Only reachable on the management port, which is not the port of the API(see application.yaml),
+                        so the access to the metrics is restricted by the network and not by the users' roles.
+                     */
+                    authorize.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll();
                     authorize.anyRequest().authenticated();
                 })
                 //The default one, just to know what's there
@@ -0,0 +1,43 @@
+package com.example.conference_management_system.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.conference_management_system.file.PaperStorage;
+import com.example.conference_management_system.file.S3PaperStorage;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+
+/*
+    The local and in-memory storages are components selected by papers.storage.type, the S3 one needs a client. Path
+    style access(http://host/bucket/key) is what MinIO expects for a local endpoint without DNS for every bucket.
+ */
+@Configuration
+@ConditionalOnProperty(name = "papers.storage.type", havingValue = "s3")
+public class StorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(@Value("${papers.storage.s3.endpoint}") URI endpoint,
+                             @Value("${papers.storage.s3.region}") String region,
+                             @Value("${papers.storage.s3.access-key}") String accessKey,
+                             @Value("${papers.storage.s3.secret-key}") String secretKey) {
+        return S3Client.builder()
+                .endpointOverride(endpoint)
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .forcePathStyle(true)
+                .build();
+    }
+
+    @Bean
+    public PaperStorage paperStorage(S3Client s3Client, @Value("${papers.storage.s3.bucket}") String bucket) {
+        return new S3PaperStorage(s3Client, bucket);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.conference_management_system.content;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.file.FileService;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+    Finds the mismatches between the stored files and the content rows. Unreferenced files are left behind by
+    deletions that failed or were lost on a shutdown, referenced files that are missing can only be reported.
+
+    Both sides are read as streams in the same order and merged like the two halves of a merge sort, so the memory
+    needed does not depend on the number of files. An unreferenced file is deleted through
+    ContentService#deleteFileIfUnreferenced() which takes the lock of the file name and counts the references again, a
+    file stored by an upload that was not committed when the names were read is then seen as referenced.
+ */
+@Component
+class ContentReconciler {
+    private final ContentRepository contentRepository;
+    private final ContentService contentService;
+    private final FileService fileService;
+    private final boolean deleteUnreferencedFiles;
+    private static final Logger logger = LoggerFactory.getLogger(ContentReconciler.class);
+
+    ContentReconciler(ContentRepository contentRepository,
+                      ContentService contentService,
+                      FileService fileService,
+                      @Value("${papers.reconciler.delete-unreferenced-files:true}") boolean deleteUnreferencedFiles) {
+        this.contentRepository = contentRepository;
+        this.contentService = contentService;
+        this.fileService = fileService;
+        this.deleteUnreferencedFiles = deleteUnreferencedFiles;
+    }
+
+    @Scheduled(cron = "${papers.reconciler.cron:0 0 3 * * *}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        long unreferenced = 0;
+        long deleted = 0;
+        long missing = 0;
+
+        try (Stream<String> storedFiles = this.fileService.listFileNames();
+             Stream<String> referencedFiles = this.contentRepository.streamGeneratedFileNames()) {
+            Iterator<String> storedIterator = storedFiles.iterator();
+            Iterator<String> referencedIterator = referencedFiles.iterator();
+            String stored = next(storedIterator);
+            String referenced = next(referencedIterator);
+
+            while (stored != null || referenced != null) {
+                int comparison = stored == null ? 1 : referenced == null ? -1 : stored.compareTo(referenced);
+
+                if (comparison == 0) {
+                    stored = next(storedIterator);
+                    referenced = next(referencedIterator);
+                } else if (comparison < 0) {
+                    unreferenced++;
+                    if (!this.deleteUnreferencedFiles) {
+                        logger.warn("File {} is not referenced by any content", stored);
+                    } else if (this.contentService.deleteFileIfUnreferenced(stored)) {
+                        deleted++;
+                    }
+                    stored = next(storedIterator);
+                } else {
+                    missing++;
+                    logger.warn("File {} is referenced by a content but it is not stored", referenced);
+                    referenced = next(referencedIterator);
+                }
+            }
+        } catch (ServerErrorException | UncheckedIOException e) {
+            logger.warn("Reconciliation of the stored files stopped: {}", e.getMessage());
+        }
+
+        logger.info("Reconciliation of the stored files found {} unreferenced files, deleted {}, and {} missing files",
+                unreferenced, deleted, missing);
+    }
+
+    private String next(Iterator<String> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
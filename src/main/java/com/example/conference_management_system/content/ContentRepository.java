@@ -1,10 +1,17 @@
 package com.example.conference_management_system.content;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.example.conference_management_system.entity.Content;
 
@@ -21,4 +28,33 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
                 WHERE c.id = :paperId
             """)
     Optional<Content> findByPaperId(@Param("paperId") Long paperId);
+
+    @Query("""
+                SELECT c
+                FROM Content c
+                JOIN FETCH c.paper p
+                WHERE p.conference.id = :conferenceId
+                ORDER BY c.id
+            """)
+    List<Content> findByConferenceIdFetchingPaper(@Param("conferenceId") UUID conferenceId);
+
+    long countByGeneratedFileName(String generatedFileName);
+
+    /*
+        COLLATE "C" orders by the bytes of the names, the same order as String#compareTo() for the hex names and the
+        order the storages list their files in. See ContentReconciler.
+     */
+    @Query(value = """
+                SELECT DISTINCT generated_file_name COLLATE "C" AS generated_file_name
+                FROM content
+                ORDER BY 1
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamGeneratedFileNames();
+
+    /*
+        Transaction level advisory lock, released at the commit or the rollback. See ContentService.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:fileName))", nativeQuery = true)
+    Integer lockFileName(@Param("fileName") String fileName);
 }
@@ -0,0 +1,73 @@
+package com.example.conference_management_system.content;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.file.FileService;
+import com.example.conference_management_system.file.StagedFile;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+    The files are stored under the SHA-256 of their content, so papers with the same file share it on disk and uploading
+    the same file again only updates the content row. The content rows are the references to a file, the reference
+    count of a file is the number of rows with its name, and a file is deleted when no row references it anymore.
+
+    Adding and removing a reference to the same file are serialized with a transaction level advisory lock on the file
+    name. A new reference is committed before the lock is released, so a deletion that runs afterward sees it, and a
+    file that is being deleted can not get a new reference until the deletion is done, in which case it is stored again.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentService {
+    private final ContentRepository contentRepository;
+    private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private static final Logger logger = LoggerFactory.getLogger(ContentService.class);
+
+    /*
+        Has to be called in the transaction that saves the content which references the file. If that transaction rolls
+        back the file is deleted unless another content references it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addReference(StagedFile stagedFile) {
+        this.contentRepository.lockFileName(stagedFile.fileName());
+        this.fileService.commitFile(stagedFile);
+        this.eventPublisher.publishEvent(new FileReferencedEvent(stagedFile.fileName()));
+    }
+
+    /*
+        Has to be called in the transaction that removes the reference. The file is deleted after the commit if no other
+        content references it, if the transaction rolls back the reference still exists and nothing happens.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseReference(String fileName) {
+        this.eventPublisher.publishEvent(new FileReleasedEvent(fileName));
+    }
+
+    /*
+        Returns true if the file was deleted. A failure to delete the file leaves an unreferenced file in the storage
+        that the ContentReconciler deletes on its next run.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean deleteFileIfUnreferenced(String fileName) {
+        this.contentRepository.lockFileName(fileName);
+
+        if (this.contentRepository.countByGeneratedFileName(fileName) != 0) {
+            return false;
+        }
+
+        try {
+            this.fileService.deleteFile(fileName);
+            return true;
+        } catch (ServerErrorException see) {
+            logger.warn("Unreferenced file {} could not be deleted", fileName);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.conference_management_system.content;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+    Deletes the files that are no longer referenced once the transaction that released them is done. The deletions run
+    on the task executor, so a request does not wait for the storage after its transaction committed. The queue of the
+    executor is in memory, deletions that are lost on a shutdown leave unreferenced files that the ContentReconciler
+    deletes on its next run.
+ */
+@Component
+@RequiredArgsConstructor
+class FileDeletionListener {
+    private final ContentService contentService;
+
+    @Async
+    @TransactionalEventListener
+    void onFileReleased(FileReleasedEvent event) {
+        this.contentService.deleteFileIfUnreferenced(event.fileName());
+    }
+
+    /*
+        The file was stored before the transaction that would have referenced it rolled back
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    void onReferenceRolledBack(FileReferencedEvent event) {
+        this.contentService.deleteFileIfUnreferenced(event.fileName());
+    }
+}
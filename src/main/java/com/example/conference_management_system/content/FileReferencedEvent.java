@@ -0,0 +1,7 @@
+package com.example.conference_management_system.content;
+
+/*
+    Published when a content references the file with the given name
+ */
+record FileReferencedEvent(String fileName) {
+}
@@ -0,0 +1,7 @@
+package com.example.conference_management_system.content;
+
+/*
+    Published when a content no longer references the file with the given name
+ */
+record FileReleasedEvent(String fileName) {
+}
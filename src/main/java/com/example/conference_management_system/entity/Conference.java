@@ -10,16 +10,19 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 import org.hibernate.annotations.JdbcType;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Set;
 import java.util.UUID;
@@ -47,7 +50,34 @@ public class Conference {
     private String description;
     @Column(nullable = false)
     @JdbcType(PostgreSQLEnumJdbcType.class)
+    @Setter(AccessLevel.NONE)
     private ConferenceState state;
+    /*
+        Optional, when the deadline of the current state passes the conference moves to the next state(see
+        ConferenceDeadlineScheduler). The submission starts at submissionStart, the other ones end their phase.
+     */
+    @Setter(AccessLevel.NONE)
+    private Instant submissionStart;
+    @Setter(AccessLevel.NONE)
+    private Instant submissionDeadline;
+    @Setter(AccessLevel.NONE)
+    private Instant assignmentDeadline;
+    @Setter(AccessLevel.NONE)
+    private Instant reviewDeadline;
+    @Setter(AccessLevel.NONE)
+    private Instant decisionDeadline;
+    /*
+        The deadline of the current state, so the due conferences are found with the (state, next_deadline) index
+        instead of a different column per state. It is only changed along with the state or the deadlines.
+     */
+    @Setter(AccessLevel.NONE)
+    private Instant nextDeadline;
+    /*
+        Same as the version of the Paper. Adding a PC chair only inserts in conferences_users, so addPCChair() forces
+        the increment for the users of the ETag to change.
+     */
+    @Version
+    private long version;
     @OneToMany(mappedBy = "conference", cascade = CascadeType.REMOVE)
     private Set<ConferenceUser> conferenceUsers;
     @OneToMany(mappedBy = "conference")
@@ -62,4 +92,33 @@ public class Conference {
         this.description = description;
         this.state = ConferenceState.CREATED;
     }
+
+    public void setState(ConferenceState state) {
+        this.state = state;
+        updateNextDeadline();
+    }
+
+    public void setDeadlines(Instant submissionStart,
+                             Instant submissionDeadline,
+                             Instant assignmentDeadline,
+                             Instant reviewDeadline,
+                             Instant decisionDeadline) {
+        this.submissionStart = submissionStart;
+        this.submissionDeadline = submissionDeadline;
+        this.assignmentDeadline = assignmentDeadline;
+        this.reviewDeadline = reviewDeadline;
+        this.decisionDeadline = decisionDeadline;
+        updateNextDeadline();
+    }
+
+    private void updateNextDeadline() {
+        this.nextDeadline = switch (this.state) {
+            case CREATED -> this.submissionStart;
+            case SUBMISSION -> this.submissionDeadline;
+            case ASSIGNMENT -> this.assignmentDeadline;
+            case REVIEW -> this.reviewDeadline;
+            case DECISION -> this.decisionDeadline;
+            case FINAL -> null;
+        };
+    }
 }
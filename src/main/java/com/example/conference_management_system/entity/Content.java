@@ -24,10 +24,24 @@ public class Content {
     private Long id;
     @Column(nullable = false)
     private String originalFileName;
+    /*
+        The SHA-256 of the file, the name it is stored with, followed by .gz if it is compressed. Files uploaded before the
+        files were stored by content have a UUID.
+     */
     @Column(nullable = false)
     private String generatedFileName;
     @Column(nullable = false)
     private String fileExtension;
+    /*
+        Hex encoded SHA-256 of the file and its size in bytes. Null for files uploaded before they were computed.
+     */
+    private String sha256;
+    private Long fileSize;
+    /*
+        The codec the stored file is compressed with(gzip), null if it is stored as uploaded. The sha256 and the
+        fileSize are of the uncompressed file.
+     */
+    private String encoding;
     @OneToOne
     @MapsId
     @JoinColumn(name = "id")
@@ -0,0 +1,59 @@
+package com.example.conference_management_system.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import com.example.conference_management_system.outbox.OutboxEventType;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@EntityListeners(AuditingEntityListener.class)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+    @Column(nullable = false)
+    private String aggregateType;
+    @Column(nullable = false)
+    private String aggregateId;
+    /*
+        JSON object with the ids and values of the change, consumers load anything else they need
+     */
+    @Column(nullable = false)
+    private String payload;
+    @Column(nullable = false)
+    @CreatedDate
+    private Instant createdDate;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(OutboxEventType eventType, String aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateType = eventType.getAggregateType();
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+}
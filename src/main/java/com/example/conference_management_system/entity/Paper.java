@@ -12,6 +12,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 import org.hibernate.annotations.JdbcType;
 import org.hibernate.dialect.PostgreSQLEnumJdbcType;
@@ -59,6 +60,12 @@ public class Paper {
         Will be stored as csv values.
      */
     private String keywords;
+    /*
+        Primitive so Spring Data keeps deciding if the entity is new by the id. Used for optimistic locking and as the
+        ETag of the GET endpoint.
+     */
+    @Version
+    private long version;
     @OneToMany(mappedBy = "paper", cascade = CascadeType.REMOVE)
     private Set<PaperUser> paperUsers;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,60 @@
+package com.example.conference_management_system.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/*
+    A paper file that is uploaded in chunks. The file size and the sha256(hex encoded) are declared by the client when
+    the session is created, the upload is completed only if the received file has both.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@EntityListeners(AuditingEntityListener.class)
+public class UploadSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+    @Column(nullable = false)
+    private String originalFileName;
+    @Column(nullable = false)
+    private long fileSize;
+    @Column(nullable = false)
+    private String sha256;
+    @Column(nullable = false)
+    @CreatedDate
+    private Instant createdDate;
+
+    public UploadSession() {
+    }
+
+    public UploadSession(User user, String originalFileName, long fileSize, String sha256) {
+        this.user = user;
+        this.originalFileName = originalFileName;
+        this.fileSize = fileSize;
+        this.sha256 = sha256;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.conference_management_system.exception;
 
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -63,6 +65,16 @@ class ApiExceptionHandler {
         return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
     }
 
+    /*
+        Thrown at the commit when the version of a paper or a conference changed after it was read by the request
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    private ResponseEntity<ApiError> handleOptimisticLockingFailureException(OptimisticLockingFailureException ole) {
+        ApiError apiError = new ApiError("The resource was modified by another request. Please try again");
+
+        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(ServerErrorException.class)
     private ResponseEntity<ApiError> handleServerErrorException(ServerErrorException see) {
         ApiError apiError = new ApiError(see.getMessage());
@@ -97,4 +109,18 @@ class ApiExceptionHandler {
 
         return new ResponseEntity<>(apiError, HttpStatus.FORBIDDEN);
     }
-}
\ No newline at end of file
+
+    /*
+        Retry-After in seconds tells the client when to try again instead of retrying immediately
+
+        https://www.rfc-editor.org/rfc/rfc9110#name-retry-after
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    private ResponseEntity<ApiError> handleServiceUnavailableException(ServiceUnavailableException sue) {
+        ApiError apiError = new ApiError(sue.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(sue.getRetryAfter().toSeconds()))
+                .body(apiError);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.conference_management_system.file;
+
+/*
+    A stored file written to an archive under the given name. The extension and the encoding are the ones kept in the
+    content of the file.
+ */
+public record ArchiveEntry(String name, String fileName, String fileExtension, String encoding) {
+}
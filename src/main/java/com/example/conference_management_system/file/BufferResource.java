@@ -0,0 +1,75 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/*
+    A file cached by the HotFileCache. FileTransfer writes the requested region of the buffer to the response, the
+    rest of the callers read it as a stream.
+ */
+class BufferResource extends AbstractResource {
+    private final String fileName;
+    private final ByteBuffer buffer;
+
+    BufferResource(String fileName, ByteBuffer buffer) {
+        this.fileName = fileName;
+        this.buffer = buffer;
+    }
+
+    /*
+        A view of the bytes from position to position + count, with its own position and limit
+     */
+    ByteBuffer slice(long position, long count) {
+        return this.buffer.slice(Math.toIntExact(position), Math.toIntExact(count));
+    }
+
+    @Override
+    public long contentLength() {
+        return this.buffer.capacity();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cached file [" + this.fileName + "]";
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return Channels.newInputStream(readableChannel());
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() {
+        ByteBuffer source = this.buffer.duplicate();
+
+        return new ReadableByteChannel() {
+            private boolean open = true;
+
+            @Override
+            public int read(ByteBuffer target) {
+                if (!source.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(source.remaining(), target.remaining());
+                target.put(source.slice(source.position(), count));
+                source.position(source.position() + count);
+
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return this.open;
+            }
+
+            @Override
+            public void close() {
+                this.open = false;
+            }
+        };
+    }
+}
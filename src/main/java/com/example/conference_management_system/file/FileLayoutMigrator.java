@@ -0,0 +1,31 @@
+package com.example.conference_management_system.file;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+    Moves the files of the flat layout to the sharded one in the background once the application has started, so the
+    startup is not delayed by the size of the papers directory. After the first run there is nothing left to move and
+    the next runs only list the top level of the directory.
+ */
+@Component
+@ConditionalOnProperty(name = "papers.storage.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+class FileLayoutMigrator {
+    private final LocalPaperStorage localPaperStorage;
+    private static final Logger logger = LoggerFactory.getLogger(FileLayoutMigrator.class);
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    void migrate() {
+        int moved = this.localPaperStorage.migrateToShardedLayout();
+        logger.info("Moved {} files to the sharded layout", moved);
+    }
+}
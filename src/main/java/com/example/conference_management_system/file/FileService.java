@@ -5,20 +5,45 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import com.example.conference_management_system.exception.ResourceNotFoundException;
 import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.exception.UnsupportedFileException;
 
 /*
     This class should have been a FilesUtil class not a Bean
@@ -26,45 +51,109 @@ import com.example.conference_management_system.exception.ServerErrorException;
 @Service
 public class FileService {
     private final String paperDirectoryPath;
+    private final PaperStorage paperStorage;
+    private final HotFileCache hotFileCache;
     private final Tika tika;
     private final Map<String, String> supportedMimeTypes;
+    private final Set<String> compressedFileExtensions;
     private static final Logger logger = LoggerFactory.getLogger(FileService.class);
     private static final String SERVER_ERROR_MSG = "The server encountered an internal error and was unable to " +
             "complete your request. Please try again later";
+    private static final String UNSUPPORTED_FILE_MSG = "The provided file is not supported. Make sure your file is " +
+            "either a pdf or a Latex one";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String UPLOADS_DIRECTORY = "uploads";
+    private static final String UPLOAD_FILE_SUFFIX = ".part";
+    private static final String UPLOAD_NOT_FOUND_MSG = "Upload not found with id: ";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    public static final String GZIP_ENCODING = "gzip";
+    static final String GZIP_FILE_SUFFIX = ".gz";
 
-    public FileService(@Value("${papers.directory}") String paperDirectoryPath) {
+    public FileService(@Value("${papers.directory}") String paperDirectoryPath,
+                       PaperStorage paperStorage,
+                       HotFileCache hotFileCache) {
         this.paperDirectoryPath = paperDirectoryPath;
+        this.paperStorage = paperStorage;
+        this.hotFileCache = hotFileCache;
         this.tika = new Tika();
         this.supportedMimeTypes = new HashMap<>();
         this.supportedMimeTypes.put("application/pdf", ".pdf");
         this.supportedMimeTypes.put("application/x-tex", ".tex");
+        this.compressedFileExtensions = Set.of(".tex");
     }
 
-    public boolean isFileSupported(MultipartFile file) {
-        try {
-            String contentType = this.tika.detect(file.getInputStream());
-            return this.supportedMimeTypes.containsKey(contentType);
-        } catch (IOException ioe) {
-            logger.warn("Error detecting file type for {}: {}", file.getOriginalFilename(), ioe.getMessage());
+    /*
+        Reads the upload once with a bounded buffer. The first chunk is used to detect the Mime type from the file
+        signature(magic number), if the type is not supported nothing is written. Otherwise, every chunk updates the
+        SHA-256 digest and the size, and is written to a temporary file. The name of the stored file is the digest, so it
+        is only known after the whole upload is read, commitFile() hands the temporary file to the storage under that
+        name. The papers directory is the staging area for every storage.
+
+        The buffer is as large as the bytes Tika reads from a stream to detect the type, so the detection is the same as
+        passing the whole stream to tika.detect().
+
+        Text formats(LaTeX) are compressed 5-10x by gzip, so they are compressed while they are written. The digest and
+        the size are of the uploaded bytes, not the compressed ones, so the checksum can be verified against a download.
+        PDFs are already compressed internally and are stored as they are.
+     */
+    public StagedFile stageFile(MultipartFile file) {
+        Path tempPath = Paths.get(paperDirectoryPath, UUID.randomUUID() + TEMP_FILE_SUFFIX);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read = inputStream.readNBytes(buffer, 0, BUFFER_SIZE);
+            String contentType = this.tika.detect(new ByteArrayInputStream(buffer, 0, read));
+            String fileExtension = this.supportedMimeTypes.get(contentType);
+
+            if (fileExtension == null) {
+                throw new UnsupportedFileException(UNSUPPORTED_FILE_MSG);
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            String encoding = this.compressedFileExtensions.contains(fileExtension) ? GZIP_ENCODING : null;
+            try (OutputStream outputStream = encoding == null
+                    ? Files.newOutputStream(tempPath)
+                    : new GZIPOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE)) {
+                while (read > 0) {
+                    digest.update(buffer, 0, read);
+                    outputStream.write(buffer, 0, read);
+                    size += read;
+                    read = inputStream.read(buffer);
+                }
+            }
+
+            return new StagedFile(fileExtension, HexFormat.of().formatHex(digest.digest()), size, encoding, tempPath);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Error storing file {}: {}", file.getOriginalFilename(), e.getMessage());
+            deleteTempFile(tempPath);
             throw new ServerErrorException(SERVER_ERROR_MSG);
         }
     }
 
-    public void saveFile(MultipartFile file, String fileName) {
+    /*
+        If a file with the same content is already stored, the temporary file is deleted and the stored one is reused.
+        The caller must make sure that the stored file is not deleted concurrently, see ContentService.
+     */
+    public void commitFile(StagedFile stagedFile) {
         try {
-            Path path = Paths.get(paperDirectoryPath + File.separator + fileName);
-            Files.write(path, file.getBytes());
+            if (this.paperStorage.exists(stagedFile.fileName())) {
+                logger.info("File with the same content is already stored: {}", stagedFile.fileName());
+            } else {
+                this.paperStorage.store(stagedFile.fileName(), stagedFile.path());
+            }
         } catch (IOException ioe) {
-            logger.warn("Error storing file {}: {}", fileName , ioe.getMessage());
+            logger.warn("Error storing file {}: {}", stagedFile.fileName(), ioe.getMessage());
             throw new ServerErrorException(SERVER_ERROR_MSG);
+        } finally {
+            deleteTempFile(stagedFile.path());
         }
     }
 
     public void deleteFile(String fileName) {
-        Path path = Paths.get(paperDirectoryPath + File.separator + fileName);
+        this.hotFileCache.evict(fileName);
         try {
-            if (Files.exists(path)) {
-                Files.delete(path);
+            if (this.paperStorage.delete(fileName)) {
                 logger.info("Successfully deleted file: {}", fileName);
             } else {
                 logger.warn("File to delete not found: {}", fileName);
@@ -82,29 +171,225 @@ public class FileService {
      */
     public Resource getFile(String fileName)  {
         try {
-            Path path = Paths.get(paperDirectoryPath + File.separator + fileName);
-            Resource resource = new UrlResource(path.toUri());
+            Resource resource = this.hotFileCache.get(fileName, this.paperStorage::load);
 
-            if (resource.exists()) {
+            if (resource != null) {
                 logger.info("Successfully retrieved file: {}", fileName);
                 return resource;
             } else {
                 logger.warn("Failed to retrieve file: {}", fileName);
                 throw new ServerErrorException(SERVER_ERROR_MSG);
             }
-        } catch (MalformedURLException mue) {
-            logger.warn("Malformed URL for file: {}, Error: {}", fileName, mue.getMessage());
+        } catch (IOException ioe) {
+            logger.warn("Error retrieving file: {}, Error: {}", fileName, ioe.getMessage());
+            throw new ServerErrorException(SERVER_ERROR_MSG);
+        }
+    }
+
+    public Stream<String> listFileNames() {
+        try {
+            return this.paperStorage.listFileNames();
+        } catch (IOException ioe) {
+            logger.warn("Error listing the stored files: {}", ioe.getMessage());
+            throw new ServerErrorException(SERVER_ERROR_MSG);
+        }
+    }
+
+    /*
+        Writes a ZIP of the given files to the output stream, one file after the other as it is read from the storage,
+        so neither the archive nor a file is held in memory or written to a temporary file. Compressed files are
+        decompressed as they are read, the archive has the uploaded files.
+
+        PDFs are already compressed internally, deflating them again costs CPU for almost no gain, so they are written
+        with no compression and only the text formats are deflated. A file that can not be read stops the archive, the
+        response is already committed at that point so the client gets a truncated archive and not a partial one that
+        looks complete.
+     */
+    public void writeArchive(List<ArchiveEntry> entries, OutputStream outputStream) throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+
+        for (ArchiveEntry entry : entries) {
+            Resource resource = getFile(entry.fileName());
+
+            zipOutputStream.setLevel(this.compressedFileExtensions.contains(entry.fileExtension())
+                    ? Deflater.DEFAULT_COMPRESSION
+                    : Deflater.NO_COMPRESSION);
+            zipOutputStream.putNextEntry(new ZipEntry(entry.name()));
+            try (InputStream inputStream = GZIP_ENCODING.equals(entry.encoding())
+                    ? new GZIPInputStream(resource.getInputStream(), BUFFER_SIZE)
+                    : resource.getInputStream()) {
+                inputStream.transferTo(zipOutputStream);
+            }
+            zipOutputStream.closeEntry();
+        }
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+    }
+
+    /*
+        A chunked upload is appended to a file of its own in the uploads directory of the papers directory, named after
+        the id of its session. The size of the file is the offset of the next chunk, so nothing else needs to be updated
+        per chunk and a chunk that was cut off by the network keeps the bytes that arrived; the client asks for the
+        offset and sends the rest.
+
+        The file is on the local disk of the node that created the session, not in the storage, so the requests of an
+        upload must be routed to the same node(sticky sessions). On another node the file is not found and the upload
+        is not found either.
+     */
+    public void createUploadFile(UUID uploadId) {
+        Path path = uploadPath(uploadId);
+
+        try {
+            Files.createDirectories(path.getParent());
+            Files.createFile(path);
+        } catch (IOException ioe) {
+            logger.warn("Error creating upload file {}: {}", path, ioe.getMessage());
             throw new ServerErrorException(SERVER_ERROR_MSG);
         }
     }
 
-    public String findFileExtension(MultipartFile file) {
+    public long getUploadFileSize(UUID uploadId) {
         try {
-            String contentType = this.tika.detect(file.getInputStream());
-            return this.supportedMimeTypes.get(contentType);
+            return Files.size(uploadPath(uploadId));
+        } catch (NoSuchFileException nsfe) {
+            throw new ResourceNotFoundException(UPLOAD_NOT_FOUND_MSG + uploadId);
         } catch (IOException ioe) {
-            logger.warn("Error finding file extension for {}: {}", file.getOriginalFilename(), ioe.getMessage());
+            logger.warn("Error reading the size of upload file {}: {}", uploadId, ioe.getMessage());
             throw new ServerErrorException(SERVER_ERROR_MSG);
         }
     }
+
+    /*
+        Appends the chunk to the upload file if it starts where the file ends, and returns the new size. The file is
+        locked while the chunk is written, a chunk sent again while the previous attempt is still being written is
+        rejected instead of being interleaved with it. A chunk that would grow the file past maxSize is not kept.
+     */
+    public long appendChunk(UUID uploadId, long offset, long maxSize, InputStream inputStream) {
+        Path path = uploadPath(uploadId);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException ofle) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new StateConflictException("Another chunk of the upload is being written");
+            }
+
+            long size = channel.size();
+            if (offset != size) {
+                throw new StateConflictException("The chunk must start at offset: " + size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            ReadableByteChannel source = Channels.newChannel(inputStream);
+            long position = offset;
+            boolean end = false;
+            while (!end || buffer.position() > 0) {
+                if (!end) {
+                    end = read(uploadId, source, buffer);
+                }
+                if (position + buffer.position() > maxSize) {
+                    channel.truncate(offset);
+                    throw new IllegalArgumentException("The chunk exceeds the size of the file");
+                }
+                buffer.flip();
+                position += channel.write(buffer, position);
+                buffer.compact();
+            }
+
+            return position;
+        } catch (NoSuchFileException nsfe) {
+            throw new ResourceNotFoundException(UPLOAD_NOT_FOUND_MSG + uploadId);
+        } catch (IOException ioe) {
+            logger.warn("Error writing chunk of upload {}: {}", uploadId, ioe.getMessage());
+            throw new ServerErrorException(SERVER_ERROR_MSG);
+        }
+    }
+
+    /*
+        Returns true at the end of the chunk. A failed read means the client dropped mid-chunk, it ends the chunk
+        without an error, the bytes received before it are written and the next chunk starts where they end. Failures
+        of the upload file are not caught here, they are server errors and the client can not fix them by retrying.
+     */
+    private boolean read(UUID uploadId, ReadableByteChannel source, ByteBuffer buffer) {
+        try {
+            return source.read(buffer) < 0;
+        } catch (IOException ioe) {
+            logger.info("Chunk of upload {} was not completed: {}", uploadId, ioe.getMessage());
+            return true;
+        }
+    }
+
+    /*
+        Hashes the upload file before it is handed to stageFile(), so a corrupted upload is rejected before any paper is
+        created. The file was just written, so this read is normally served from the page cache.
+     */
+    public boolean uploadFileMatches(UUID uploadId, String sha256) {
+        try (InputStream inputStream = Files.newInputStream(uploadPath(uploadId))) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+
+            return HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(sha256);
+        } catch (NoSuchFileException nsfe) {
+            throw new ResourceNotFoundException(UPLOAD_NOT_FOUND_MSG + uploadId);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            logger.warn("Error hashing upload file {}: {}", uploadId, e.getMessage());
+            throw new ServerErrorException(SERVER_ERROR_MSG);
+        }
+    }
+
+    /*
+        The completed upload as a MultipartFile, so it goes through stageFile() like any other upload
+     */
+    public MultipartFile getUploadFile(UUID uploadId, String originalFileName) {
+        return new UploadedFile(uploadPath(uploadId), originalFileName);
+    }
+
+    public void deleteUploadFile(UUID uploadId) {
+        deleteTempFile(uploadPath(uploadId));
+    }
+
+    /*
+        The session of an upload can be deleted by the cleanup of any node, but its file can only be deleted by the node
+        that has it. Every node deletes its own upload files that were last written before the expiry, whether their
+        session still exists or not. Returns the number of deleted files.
+     */
+    public int deleteUploadFilesModifiedBefore(Instant expiry) {
+        Path directory = Paths.get(paperDirectoryPath, UPLOADS_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        int deleted = 0;
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + UPLOAD_FILE_SUFFIX)) {
+            for (Path path : paths) {
+                if (Files.getLastModifiedTime(path).toInstant().isBefore(expiry) && Files.deleteIfExists(path)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warn("Error deleting expired upload files: {}", ioe.getMessage());
+        }
+
+        return deleted;
+    }
+
+    private Path uploadPath(UUID uploadId) {
+        return Paths.get(paperDirectoryPath, UPLOADS_DIRECTORY, uploadId + UPLOAD_FILE_SUFFIX);
+    }
+
+    private void deleteTempFile(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException ioe) {
+            logger.warn("Error deleting temporary file {}: {}", tempPath, ioe.getMessage());
+        }
+    }
 }
@@ -0,0 +1,252 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/*
+    Writes a stored file to the response honoring the Range and If-Range headers. A stored file never changes(a new
+    upload is stored under a new name), so its name is a strong validator and is sent as the ETag that the client
+    repeats in the If-Range header to resume a download.
+
+    Multiple ranges are coalesced into a single region from the first to the last requested byte instead of a
+    multipart/byteranges response, which RFC 9110 allows, since resuming a download only ever asks for one range.
+
+    https://www.rfc-editor.org/rfc/rfc9110#name-range-requests
+ */
+public final class FileTransfer {
+    /*
+        Tomcat's sendfile support. When the connector supports it and the attributes are set, Tomcat writes the file
+        after the servlet returns with FileChannel#transferTo() straight to the socket, so the bytes never pass through
+        the heap.
+
+        https://tomcat.apache.org/tomcat-10.1-doc/config/http.html#Connector_Comparison
+     */
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private FileTransfer() {
+        throw new UnsupportedOperationException("FileTransfer is a utility class and cannot be instantiated");
+    }
+
+    /*
+        A compressed file is sent as it is stored with Content-Encoding to the clients that accept the codec, the other
+        clients get it decompressed as it is read. The two representations have different ETags, the name of the stored
+        file for the compressed one and the same name without the suffix of the codec for the uncompressed one, and
+        ranges are ranges of the bytes of the representation that is sent.
+
+        https://www.rfc-editor.org/rfc/rfc9110#name-content-encoding
+     */
+    public static void write(Resource resource,
+                             String fileName,
+                             String encoding,
+                             Long size,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        if (encoding == null) {
+            write(resource, fileName, request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), encoding)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+            write(resource, fileName, request, response);
+        } else {
+            String decodedFileName = fileName.endsWith(FileService.GZIP_FILE_SUFFIX)
+                    ? fileName.substring(0, fileName.length() - FileService.GZIP_FILE_SUFFIX.length())
+                    : fileName;
+            write(new GzipDecodingResource(resource, size), decodedFileName, request, response);
+        }
+    }
+
+    private static void write(Resource resource,
+                              String eTag,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        String quotedETag = "\"" + eTag + "\"";
+        long length = resource.contentLength();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, quotedETag);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        /*
+            If-Range with a different ETag or with a date(we don't send Last-Modified) means the client has a different
+            version of the file, so it gets the whole file instead of a part of it.
+         */
+        if (range == null || (ifRange != null && !ifRange.equals(quotedETag))) {
+            response.setStatus(HttpStatus.OK.value());
+            transfer(resource, 0, length, request, response);
+            return;
+        }
+
+        ResourceRegion region;
+        try {
+            List<ResourceRegion> regions = HttpRange.parseRanges(range).stream()
+                    .map(httpRange -> httpRange.toResourceRegion(resource))
+                    .toList();
+            long start = regions.stream().mapToLong(ResourceRegion::getPosition).min().orElseThrow();
+            long end = regions.stream().mapToLong(r -> r.getPosition() + r.getCount()).max().orElseThrow();
+            region = new ResourceRegion(resource, start, end - start);
+        } catch (IllegalArgumentException iae) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + region.getPosition() + "-"
+                + (region.getPosition() + region.getCount() - 1) + "/" + length);
+        transfer(resource, region.getPosition(), region.getCount(), request, response);
+    }
+
+    /*
+        Accept-Encoding: gzip, deflate;q=0.5, br;q=0 A codec is not acceptable if it is not listed(or *) or if its
+        weight is 0.
+     */
+    private static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String value : acceptEncoding.split(",")) {
+            String[] parts = value.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(encoding) && !coding.equals("*")) {
+                continue;
+            }
+
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException nfe) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /*
+        Falls back to FileChannel#transferTo() to the response stream when sendfile is not available(e.g. other
+        containers), to reading only the range from the store for resources that support it(S3) and to copying the
+        stream for the other resources that are not files.
+     */
+    private static void transfer(Resource resource,
+                                 long position,
+                                 long count,
+                                 HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        /*
+            A cached file of a remote storage is written from its off-heap buffer. The stream's channel copies it in
+            chunks through a small heap buffer of its own.
+         */
+        if (resource instanceof BufferResource bufferResource) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            ByteBuffer region = bufferResource.slice(position, count);
+            while (region.hasRemaining()) {
+                target.write(region);
+            }
+            return;
+        }
+
+        if (resource.isFile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, resource.getFile().getAbsolutePath());
+            request.setAttribute(SENDFILE_START_ATTR, position);
+            request.setAttribute(SENDFILE_END_ATTR, position + count);
+            return;
+        }
+
+        if (resource.isFile()) {
+            try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+                long transferred = 0;
+                while (transferred < count) {
+                    long written = channel.transferTo(position + transferred, count - transferred, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    transferred += written;
+                }
+            }
+            return;
+        }
+
+        if (count > 0 && resource instanceof RangeReadableResource rangeReadableResource) {
+            try (InputStream inputStream = rangeReadableResource.getInputStream(position, count)) {
+                StreamUtils.copy(inputStream, response.getOutputStream());
+            }
+            return;
+        }
+
+        if (count > 0) {
+            try (InputStream inputStream = resource.getInputStream()) {
+                StreamUtils.copyRange(inputStream, response.getOutputStream(), position, position + count - 1);
+            }
+        }
+    }
+
+    /*
+        The uncompressed view of a gzip file. The length is the size of the uncompressed file kept in the content, so the
+        response has a Content-Length and ranges can be served by skipping the decompressed bytes.
+     */
+    private static class GzipDecodingResource extends AbstractResource {
+        private final Resource resource;
+        private final long contentLength;
+
+        private GzipDecodingResource(Resource resource, long contentLength) {
+            this.resource = resource;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.contentLength;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Decompressed " + this.resource.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new GZIPInputStream(this.resource.getInputStream(), BUFFER_SIZE);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    Keeps off-heap copies of the most recently downloaded files of a remote storage. During the review phase the same
+    few hundred papers are downloaded over and over, so they are served from memory instead of S3, which is a request
+    per download.
+
+    Files of the local storage are never cached. They are sent with sendfile(see FileTransfer) and the OS page cache
+    already keeps the hot ones in memory, a copy here would only replace the zero-copy path with a copy through the
+    response stream.
+
+    The cache is bounded by the bytes of the files it holds and evicts the least recently used ones. Files larger than
+    maxFileSize are never cached, so a single large file can not evict all the others. A stored file never changes(see
+    FileTransfer) so an entry can not be stale, it is only evicted when the file is deleted.
+
+    The copies are direct buffers, outside the heap, so the cached files do not add to the GC pressure. Reading a file
+    into the cache and writing it to the response still go through small heap buffers of the stream channels. A max size
+    of 0 disables the cache.
+ */
+@Component
+class HotFileCache {
+    private final long maxSize;
+    private final long maxFileSize;
+    private final LinkedHashMap<String, ByteBuffer> files;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long size;
+
+    HotFileCache(@Value("${papers.cache.files.max-size:256MB}") DataSize maxSize,
+                 @Value("${papers.cache.files.max-file-size:16MB}") DataSize maxFileSize,
+                 MeterRegistry meterRegistry) {
+        this.maxSize = maxSize.toBytes();
+        this.maxFileSize = Math.min(maxFileSize.toBytes(), maxSize.toBytes());
+        this.files = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = Counter.builder("papers.file.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("papers.file.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("papers.file.cache.evictions").register(meterRegistry);
+        Gauge.builder("papers.file.cache.size", this, HotFileCache::size)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /*
+        Returns the cached file or loads it with the loader. The file is read outside the lock, two downloads of the
+        same file that miss at the same time both read it and the second one replaces the first in the cache. A resource
+        that is a file is returned as it is and is not counted as a miss.
+     */
+    Resource get(String fileName, ResourceLoader loader) throws IOException {
+        ByteBuffer buffer = lookup(fileName);
+        if (buffer != null) {
+            this.hits.increment();
+            return new BufferResource(fileName, buffer);
+        }
+
+        Resource resource = loader.load(fileName);
+        if (resource == null || resource.isFile()) {
+            return resource;
+        }
+
+        this.misses.increment();
+        if (resource.contentLength() > this.maxFileSize) {
+            return resource;
+        }
+
+        buffer = read(resource);
+        put(fileName, buffer);
+
+        return new BufferResource(fileName, buffer);
+    }
+
+    synchronized void evict(String fileName) {
+        ByteBuffer buffer = this.files.remove(fileName);
+        if (buffer != null) {
+            this.size -= buffer.capacity();
+        }
+    }
+
+    synchronized long size() {
+        return this.size;
+    }
+
+    private synchronized ByteBuffer lookup(String fileName) {
+        return this.files.get(fileName);
+    }
+
+    private synchronized void put(String fileName, ByteBuffer buffer) {
+        ByteBuffer previous = this.files.put(fileName, buffer);
+        this.size += buffer.capacity() - (previous == null ? 0 : previous.capacity());
+
+        Iterator<Map.Entry<String, ByteBuffer>> iterator = this.files.entrySet().iterator();
+        while (this.size > this.maxSize && iterator.hasNext()) {
+            Map.Entry<String, ByteBuffer> eldest = iterator.next();
+            iterator.remove();
+            this.size -= eldest.getValue().capacity();
+            this.evictions.increment();
+        }
+    }
+
+    /*
+        The buffer is read-only, every download reads it through its own duplicate
+     */
+    private ByteBuffer read(Resource resource) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(resource.contentLength()));
+
+        try (ReadableByteChannel channel = resource.readableChannel()) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("File is shorter than its length: " + resource.getDescription());
+                }
+            }
+        }
+
+        return buffer.flip().asReadOnlyBuffer();
+    }
+
+    @FunctionalInterface
+    interface ResourceLoader {
+        Resource load(String fileName) throws IOException;
+    }
+}
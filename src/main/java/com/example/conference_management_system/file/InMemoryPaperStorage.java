@@ -0,0 +1,51 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/*
+    Keeps the files in memory, they are lost when the application stops. Meant for tests that don't care where the
+    files are stored.
+ */
+@Component
+@ConditionalOnProperty(name = "papers.storage.type", havingValue = "memory")
+public class InMemoryPaperStorage implements PaperStorage {
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean exists(String fileName) {
+        return this.files.containsKey(fileName);
+    }
+
+    @Override
+    public void store(String fileName, Path source) throws IOException {
+        this.files.put(fileName, Files.readAllBytes(source));
+    }
+
+    @Override
+    public Resource load(String fileName) {
+        byte[] content = this.files.get(fileName);
+
+        return content == null ? null : new ByteArrayResource(content);
+    }
+
+    @Override
+    public boolean delete(String fileName) {
+        return this.files.remove(fileName) != null;
+    }
+
+    @Override
+    public Stream<String> listFileNames() {
+        return new TreeSet<>(this.files.keySet()).stream();
+    }
+}
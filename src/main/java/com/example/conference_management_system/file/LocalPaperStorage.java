@@ -0,0 +1,156 @@
+package com.example.conference_management_system.file;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/*
+    Stores the files in the papers directory of the local filesystem. It only works for a single application node,
+    unless the directory is a shared mount.
+
+    Hundreds of thousands of files in a single directory make lookups, deletes and backups slow, so files are stored 2
+    levels deep, named after the first 4 characters of their name, e.g. ab/cd/abcd0123... Both the SHA-256 and the
+    previous UUID names start with hex characters so the files are spread evenly over at most 65536 directories. Files
+    of the previous flat layout are moved by the FileLayoutMigrator, until then a file can be in either layout.
+ */
+@Component
+@ConditionalOnProperty(name = "papers.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalPaperStorage implements PaperStorage {
+    private final String paperDirectoryPath;
+    private static final Logger logger = LoggerFactory.getLogger(LocalPaperStorage.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    public LocalPaperStorage(@Value("${papers.directory}") String paperDirectoryPath) {
+        this.paperDirectoryPath = paperDirectoryPath;
+    }
+
+    @Override
+    public boolean exists(String fileName) {
+        return Files.exists(shardedPath(fileName)) || Files.exists(flatPath(fileName));
+    }
+
+    /*
+        The staged file is in the papers directory, so it is moved instead of copied
+     */
+    @Override
+    public void store(String fileName, Path source) throws IOException {
+        Path path = shardedPath(fileName);
+
+        Files.createDirectories(path.getParent());
+        Files.move(source, path, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /*
+        The sharded path is checked again after the flat one, in case the file was moved between the two checks. The
+        resource is file based, so downloads can be sent with sendfile, see FileTransfer.
+     */
+    @Override
+    public Resource load(String fileName) {
+        Path path = shardedPath(fileName);
+        if (!Files.exists(path)) {
+            path = flatPath(fileName);
+        }
+        if (!Files.exists(path)) {
+            path = shardedPath(fileName);
+        }
+
+        return Files.exists(path) ? new FileSystemResource(path) : null;
+    }
+
+    /*
+        The flat file is deleted first. If the migrator moves it in the meantime, it is then found in the sharded
+        layout, the other order could leave it behind.
+     */
+    @Override
+    public boolean delete(String fileName) throws IOException {
+        boolean deleted = Files.deleteIfExists(flatPath(fileName));
+        deleted |= Files.deleteIfExists(shardedPath(fileName));
+
+        return deleted;
+    }
+
+    /*
+        Walks the sharded layout one directory at a time. Each level is sorted on its own, which is enough for the whole
+        listing to be sorted since the directories are the prefixes of the names, and a level is at most 256 directories
+        or the files of a single leaf directory. Files of the flat layout are not listed until the migrator moves them.
+     */
+    @Override
+    public Stream<String> listFileNames() throws IOException {
+        return sortedChildren(Paths.get(paperDirectoryPath), Files::isDirectory)
+                .flatMap(directory -> sortedChildren(directory, Files::isDirectory))
+                .flatMap(directory -> sortedChildren(directory, Files::isRegularFile))
+                .map(path -> path.getFileName().toString());
+    }
+
+    /*
+        Moves the files stored directly in the papers directory to the sharded layout and returns how many were moved.
+        Temporary files of uploads in progress are skipped. A file that fails to move stays in the flat layout where it
+        can still be read, and is retried on the next run.
+     */
+    public int migrateToShardedLayout() {
+        int moved = 0;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(paperDirectoryPath),
+                path -> Files.isRegularFile(path) && !path.getFileName().toString().endsWith(TEMP_FILE_SUFFIX))) {
+            for (Path file : files) {
+                Path target = shardedPath(file.getFileName().toString());
+                if (target.equals(file)) {
+                    continue;
+                }
+
+                try {
+                    Files.createDirectories(target.getParent());
+                    Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                    moved++;
+                } catch (NoSuchFileException nsfe) {
+                    logger.info("File was deleted before it was moved: {}", file.getFileName());
+                } catch (IOException ioe) {
+                    logger.warn("Error moving file {}: {}", file.getFileName(), ioe.getMessage());
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warn("Error listing the papers directory: {}", ioe.getMessage());
+        }
+
+        return moved;
+    }
+
+    private Path shardedPath(String fileName) {
+        if (fileName.length() < 4) {
+            return flatPath(fileName);
+        }
+
+        return Paths.get(paperDirectoryPath, fileName.substring(0, 2), fileName.substring(2, 4), fileName);
+    }
+
+    private Stream<Path> sortedChildren(Path directory, Predicate<Path> filter) {
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.filter(filter)
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList()
+                    .stream();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private Path flatPath(String fileName) {
+        return Paths.get(paperDirectoryPath, fileName);
+    }
+}
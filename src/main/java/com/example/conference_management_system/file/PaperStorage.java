@@ -0,0 +1,42 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/*
+    Where the paper files are kept. FileService stages every upload to a local temporary file, because the name of a
+    file is the SHA-256 of its content which is only known after the whole upload is read, and then hands it to the
+    storage. The implementation is selected with the papers.storage.type property(local, s3, memory).
+
+    Implementations must stream the files in both directions and never hold a whole file in memory, the in-memory one
+    is the exception since it is meant for tests.
+ */
+public interface PaperStorage {
+
+    boolean exists(String fileName) throws IOException;
+
+    /*
+        Stores the content of the source file under the given name. The source file is owned by the caller which
+        deletes it if it still exists afterward, so an implementation may move it instead of copying it.
+     */
+    void store(String fileName, Path source) throws IOException;
+
+    /*
+        Returns null if there is no file with the given name
+     */
+    Resource load(String fileName) throws IOException;
+
+    /*
+        Returns false if there was no file with the given name
+     */
+    boolean delete(String fileName) throws IOException;
+
+    /*
+        The names of the stored files in ascending order(String#compareTo()), read lazily so that listing a storage of
+        any size needs bounded memory. The stream has to be closed and may throw UncheckedIOException while it is read.
+     */
+    Stream<String> listFileNames() throws IOException;
+}
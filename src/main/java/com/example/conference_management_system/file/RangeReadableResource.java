@@ -0,0 +1,14 @@
+package com.example.conference_management_system.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+    A resource that is not a file but whose store can read a part of it on its own, e.g. an S3 object with a ranged GET.
+    FileTransfer reads only the requested range of such a resource instead of reading the whole stream and skipping the
+    bytes before it.
+ */
+interface RangeReadableResource {
+
+    InputStream getInputStream(long position, long count) throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+    Stores the files as objects of a bucket in S3 or in any S3 compatible object store(MinIO, Ceph), so every
+    application node sees the same files. The bean is created in StorageConfig.
+
+    Uploads are sent from the staged file with its length known upfront, downloads are streamed from the response of
+    the GET request, so neither is held in memory. S3 has no directories, so the keys are the plain file names, the
+    store partitions the keys on its own.
+ */
+public class S3PaperStorage implements PaperStorage {
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3PaperStorage(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public boolean exists(String fileName) throws IOException {
+        return headObject(fileName) != null;
+    }
+
+    @Override
+    public void store(String fileName, Path source) throws IOException {
+        try {
+            this.s3Client.putObject(request -> request.bucket(this.bucket).key(fileName), RequestBody.fromFile(source));
+        } catch (SdkException se) {
+            throw new IOException(se.getMessage(), se);
+        }
+    }
+
+    /*
+        The length is needed for the Content-Length and the Range headers of the download, so it is read with a HEAD
+        request that also tells whether the object exists.
+     */
+    @Override
+    public Resource load(String fileName) throws IOException {
+        HeadObjectResponse head = headObject(fileName);
+
+        return head == null ? null : new S3ObjectResource(fileName, head.contentLength());
+    }
+
+    /*
+        S3 does not tell if the deleted object existed, DELETE succeeds either way
+     */
+    @Override
+    public boolean delete(String fileName) throws IOException {
+        try {
+            if (headObject(fileName) == null) {
+                return false;
+            }
+            this.s3Client.deleteObject(request -> request.bucket(this.bucket).key(fileName));
+
+            return true;
+        } catch (SdkException se) {
+            throw new IOException(se.getMessage(), se);
+        }
+    }
+
+    /*
+        S3 lists the keys in ascending order of their UTF-8 bytes, which is the order of String#compareTo() for the hex
+        names. The pages(1000 keys) are requested as the stream is read, so a failed request is thrown from the stream
+        and not from this method. It is thrown as UncheckedIOException like the listing of the local storage.
+     */
+    @Override
+    public Stream<String> listFileNames() {
+        Iterator<S3Object> objects = this.s3Client.listObjectsV2Paginator(request -> request.bucket(this.bucket))
+                .contents()
+                .iterator();
+        Iterator<String> keys = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return objects.hasNext();
+                } catch (SdkException se) {
+                    throw new UncheckedIOException(new IOException(se.getMessage(), se));
+                }
+            }
+
+            @Override
+            public String next() {
+                try {
+                    return objects.next().key();
+                } catch (SdkException se) {
+                    throw new UncheckedIOException(new IOException(se.getMessage(), se));
+                }
+            }
+        };
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(keys, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private HeadObjectResponse headObject(String fileName) throws IOException {
+        try {
+            return this.s3Client.headObject(request -> request.bucket(this.bucket).key(fileName));
+        } catch (NoSuchKeyException nske) {
+            return null;
+        } catch (SdkException se) {
+            throw new IOException(se.getMessage(), se);
+        }
+    }
+
+    private class S3ObjectResource extends AbstractResource implements RangeReadableResource {
+        private final String fileName;
+        private final long contentLength;
+
+        private S3ObjectResource(String fileName, long contentLength) {
+            this.fileName = fileName;
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return this.contentLength;
+        }
+
+        @Override
+        public String getFilename() {
+            return this.fileName;
+        }
+
+        @Override
+        public String getDescription() {
+            return "S3 object [" + bucket + "/" + this.fileName + "]";
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3Client.getObject(request -> request.bucket(bucket).key(this.fileName));
+            } catch (SdkException se) {
+                throw new IOException(se.getMessage(), se);
+            }
+        }
+
+        /*
+            GET with a Range header, S3 sends only the bytes from position to position + count - 1(inclusive), so a
+            resumed download does not transfer the part of the object the client already has.
+         */
+        @Override
+        public InputStream getInputStream(long position, long count) throws IOException {
+            try {
+                return s3Client.getObject(request -> request.bucket(bucket)
+                        .key(this.fileName)
+                        .range("bytes=" + position + "-" + (position + count - 1)));
+            } catch (SdkException se) {
+                throw new IOException(se.getMessage(), se);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.conference_management_system.file;
+
+import java.nio.file.Path;
+
+/*
+    An upload that was written to a temporary file. The extension is the one of the detected Mime type, the sha256 is
+    hex encoded and the size is in bytes, both of the uploaded content. The encoding is the codec the temporary file is
+    compressed with, null if it is not. commitFile() hands it to the storage under its file name.
+ */
+public record StagedFile(String fileExtension, String sha256, long size, String encoding, Path path) {
+
+    /*
+        A compressed file gets a different name than the same content uncompressed, files of the same name always have
+        the same bytes.
+     */
+    public String fileName() {
+        return this.encoding == null ? this.sha256 : this.sha256 + FileService.GZIP_FILE_SUFFIX;
+    }
+}
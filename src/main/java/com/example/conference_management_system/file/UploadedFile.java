@@ -0,0 +1,69 @@
+package com.example.conference_management_system.file;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/*
+    A file that was uploaded in chunks, read from its upload file. The Mime type is detected by stageFile() from the
+    content, so there is no content type.
+ */
+class UploadedFile implements MultipartFile {
+    private final Path path;
+    private final String originalFileName;
+
+    UploadedFile(Path path, String originalFileName) {
+        this.path = path;
+        this.originalFileName = originalFileName;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return this.originalFileName;
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getSize() == 0;
+    }
+
+    @Override
+    public long getSize() {
+        try {
+            return Files.size(this.path);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(this.path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(this.path);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.copy(this.path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
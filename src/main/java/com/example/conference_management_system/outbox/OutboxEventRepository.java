@@ -0,0 +1,30 @@
+package com.example.conference_management_system.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import com.example.conference_management_system.entity.OutboxEvent;
+
+interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /*
+        SELECT ... FOR UPDATE SKIP LOCKED, a lock timeout of -2 is Hibernate's LockOptions.SKIP_LOCKED. The rows another
+        worker is publishing are skipped instead of waited for, concurrent workers get disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+                SELECT e
+                FROM OutboxEvent e
+                ORDER BY e.id
+            """)
+    List<OutboxEvent> findBatchSkippingLocked(Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.example.conference_management_system.outbox;
+
+import lombok.Getter;
+
+@Getter
+public enum OutboxEventType {
+    PAPER_SUBMITTED("paper"),
+    PAPER_REVIEWED("paper"),
+    PAPER_APPROVED("paper"),
+    PAPER_REJECTED("paper"),
+    CONFERENCE_FINALIZED("conference");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
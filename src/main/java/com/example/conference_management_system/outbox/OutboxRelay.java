@@ -0,0 +1,144 @@
+package com.example.conference_management_system.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.conference_management_system.entity.OutboxEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+/*
+    Publishes the outbox events to a Redis Stream, off the request path. Consumers(notifications, caches, the search
+    index) read the stream with consumer groups instead of polling the tables.
+
+    Every run starts workers until the configured number are running, each one publishes batches until one is not full.
+    A batch is read with FOR UPDATE SKIP LOCKED, added to the stream with one pipelined round trip and deleted in the
+    same transaction, so the workers of this node and of the other nodes never publish the same batch. If Redis fails
+    the transaction rolls back and the batch is published by a later worker.
+
+    Delivery is at least once: a batch that was added to the stream but whose delete did not commit is published again.
+    The id of the outbox row is in every entry for the consumers to skip duplicates. With more than one worker the
+    entries are not in the order of the ids. The stream is trimmed to about maxStreamLength entries.
+ */
+@Component
+class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final byte[] stream;
+    private final int batchSize;
+    private final int workers;
+    private final RedisStreamCommands.XAddOptions addOptions;
+    private final ExecutorService executor;
+    private final AtomicInteger running = new AtomicInteger();
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    OutboxRelay(OutboxEventRepository outboxEventRepository,
+                StringRedisTemplate redisTemplate,
+                TransactionTemplate transactionTemplate,
+                @Value("${outbox.stream:conference-events}") String stream,
+                @Value("${outbox.batch-size:100}") int batchSize,
+                @Value("${outbox.workers:2}") int workers,
+                @Value("${outbox.max-stream-length:100000}") long maxStreamLength) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.stream = stream.getBytes(StandardCharsets.UTF_8);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.addOptions = RedisStreamCommands.XAddOptions.maxlen(maxStreamLength).approximateTrimming(true);
+        this.executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void relay() {
+        while (this.running.get() < this.workers) {
+            this.running.incrementAndGet();
+            this.executor.execute(this::drain);
+        }
+    }
+
+    /*
+        Returns the number of events published, 0 when there were none or all were locked by other workers
+     */
+    int relayBatch() {
+        Integer relayed = this.transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = this.outboxEventRepository.findBatchSkippingLocked(
+                    PageRequest.of(0, this.batchSize));
+
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            publish(events);
+            this.outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+
+            return events.size();
+        });
+
+        return relayed == null ? 0 : relayed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == this.batchSize);
+        } catch (RuntimeException re) {
+            logger.error("Failed to relay the outbox events", re);
+        } finally {
+            this.running.decrementAndGet();
+        }
+    }
+
+    private void publish(List<OutboxEvent> events) {
+        this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                connection.streamCommands().xAdd(
+                        StreamRecords.rawBytes(toFields(event)).withStreamKey(this.stream),
+                        this.addOptions);
+            }
+
+            return null;
+        });
+    }
+
+    private Map<byte[], byte[]> toFields(OutboxEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("id"), bytes(event.getId().toString()));
+        fields.put(bytes("type"), bytes(event.getEventType().name()));
+        fields.put(bytes("aggregateType"), bytes(event.getAggregateType()));
+        fields.put(bytes("aggregateId"), bytes(event.getAggregateId()));
+        fields.put(bytes("payload"), bytes(event.getPayload()));
+        fields.put(bytes("createdDate"), bytes(event.getCreatedDate().toString()));
+
+        return fields;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.conference_management_system.outbox;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.conference_management_system.entity.OutboxEvent;
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+    Records an event of a state change in the outbox. It must be called in the transaction of the change, an event of a
+    change that rolled back would otherwise be published, so MANDATORY fails a call without one.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Object aggregateId, Map<String, Object> payload) {
+        try {
+            this.outboxEventRepository.save(new OutboxEvent(
+                    eventType,
+                    aggregateId.toString(),
+                    this.objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException jpe) {
+            throw new ServerErrorException("The payload of the event: " + eventType + " can not be serialized");
+        }
+    }
+}
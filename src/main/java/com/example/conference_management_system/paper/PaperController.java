@@ -1,6 +1,5 @@
 package com.example.conference_management_system.paper;
 
-import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -18,25 +17,35 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.conference_management_system.file.FileTransfer;
 import com.example.conference_management_system.paper.dto.AuthorAdditionRequest;
 import com.example.conference_management_system.paper.dto.PaperCreateRequest;
 import com.example.conference_management_system.paper.dto.PaperDTO;
 import com.example.conference_management_system.paper.dto.PaperFile;
+import com.example.conference_management_system.paper.dto.PaperPage;
 import com.example.conference_management_system.paper.dto.PaperUpdateRequest;
 import com.example.conference_management_system.review.dto.ReviewCreateRequest;
 import com.example.conference_management_system.security.SecurityUser;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 
@@ -47,12 +56,14 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/papers")
 class PaperController {
     private final PaperService paperService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping(consumes = "multipart/form-data")
     @Operation(
             summary = "Create paper",
             description = "Accessible to authenticated users. Creating a paper adds the role ROLE_AUTHOR to the user. The id of the created paper" +
-                    "is in the location header to be used in subsequent requests.",
+                    "is in the location header to be used in subsequent requests. When too many uploads are in progress the response is 503 " +
+                    "with a Retry-After header",
             tags = {"Paper"},
             parameters = {
                     @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
@@ -188,7 +199,8 @@ class PaperController {
     @Operation(
             summary = "Download the paper file(pdf/tex)",
             description = "Accessible only to users with role ROLE_AUTHOR, ROLE_REVIEWER, ROLE_PC_CHAIR. You must be in a relationship with the paper either as author, " +
-                    "reviewer or PCChair at the conference the paper has been submitted too",
+                    "reviewer or PCChair at the conference the paper has been submitted too. Supports Range and If-Range requests " +
+                    "with the ETag of the response to resume a download",
             tags = {"Paper"},
             parameters = {
                     @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
@@ -196,17 +208,18 @@ class PaperController {
             }, security = {
             @SecurityRequirement(name = "cookieAuth")
     })
-    ResponseEntity<Resource> downloadPaper(@PathVariable("id") Long id,
-                                           @AuthenticationPrincipal SecurityUser securityUser) {
+    void downloadPaper(@PathVariable("id") Long id,
+                       @AuthenticationPrincipal SecurityUser securityUser,
+                       HttpServletRequest servletRequest,
+                       HttpServletResponse servletResponse) throws IOException {
         PaperFile paperFile = this.paperService.downloadPaperFile(id, securityUser);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentDisposition(ContentDisposition.attachment()
+        servletResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
                 .filename(paperFile.originalFileName())
-                .build());
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-
-        return new ResponseEntity<>(paperFile.file(), headers, HttpStatus.OK);
+                .build()
+                .toString());
+        FileTransfer.write(paperFile.file(), paperFile.generatedFileName(), paperFile.encoding(), paperFile.size(),
+                servletRequest, servletResponse);
     }
 
     /*
@@ -219,21 +232,48 @@ class PaperController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Find paper by id",
-            description = "Public endpoint. If the requested user is in a relationship with the paper extra properties are returned based on the role",
+            description = "Public endpoint. If the requested user is in a relationship with the paper extra properties are returned based on the role. " +
+                    "The response has an ETag, a request with the same ETag in the If-None-Match header gets 304 if the paper did not change",
             tags = {"Paper"}
     )
     ResponseEntity<PaperDTO> findPaperById(@PathVariable("id") Long id,
                                            @Parameter(hidden = true) @CurrentSecurityContext
-                                           SecurityContext securityContext) {
+                                           SecurityContext securityContext,
+                                           WebRequest webRequest) {
+        /*
+            checkNotModified() compares the ETag with the If-None-Match header and sets the status to 304, returning
+            null means that the response is already complete.
+
+            https://docs.spring.io/spring-framework/reference/web/webmvc/mvc-caching.html#mvc-caching-etag-lastmodified
+         */
+        String eTag = this.paperService.findPaperETag(id, securityContext);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         PaperDTO paper = this.paperService.findPaperById(id, securityContext);
 
-        return new ResponseEntity<>(paper, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(paper);
     }
 
+    /*
+        When the query parameter is provided the papers are searched with full text search over the title, keywords,
+        authors and abstract and are ordered by relevance, the title, author and abstractText filters are ignored.
+        When the fuzzy parameter is provided the papers whose title or authors are similar to it are returned ordered
+        by similarity, which tolerates typos. Otherwise, the papers are returned in pages ordered by title. When there are
+        more papers, the Link header contains the uri of the next page with the opaque cursor as query parameter, the
+        filters of the current request are preserved.
+
+        https://www.rfc-editor.org/rfc/rfc8288
+     */
     @GetMapping
     @Operation(
-            summary = "Find papers. Optional filters are: title, author, abstractText. If none is provided all papers are returned",
-            description = "Public endpoint. If the requested user is in a relationship with any of the returned papers extra properties are returned based on the role",
+            summary = "Find papers. Optional filters are: title, author, abstractText. If none is provided all papers are returned. " +
+                    "If query is provided a full text search ranked by relevance is performed instead. If fuzzy is provided papers with a " +
+                    "similar title or authors are returned ordered by similarity",
+            description = "Public endpoint. If the requested user is in a relationship with any of the returned papers extra properties are returned based on the role. " +
+                    "Results are paginated by limit(default 20, max 100). The next page is in the Link header with rel=\"next\"",
             tags = {"Paper"}
     )
     ResponseEntity<List<PaperDTO>> findPapers(@RequestParam(value = "title", required = false, defaultValue = "")
@@ -242,10 +282,57 @@ class PaperController {
                                               String author,
                                               @RequestParam(value = "abstractText", required = false, defaultValue = "")
                                               String abstractText,
+                                              @RequestParam(value = "query", required = false) String query,
+                                              @RequestParam(value = "fuzzy", required = false) String fuzzy,
+                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "limit", required = false, defaultValue = "20")
+                                              int limit,
                                               @Parameter(hidden = true) @CurrentSecurityContext
                                               SecurityContext securityContext) {
-        List<PaperDTO> papers = this.paperService.findPapers(title, author, abstractText, securityContext);
+        PaperPage paperPage;
+        if (query != null && !query.isBlank()) {
+            paperPage = this.paperService.searchPapers(query, cursor, limit, securityContext);
+        } else if (fuzzy != null && !fuzzy.isBlank()) {
+            paperPage = this.paperService.findSimilarPapers(fuzzy, cursor, limit, securityContext);
+        } else {
+            paperPage = this.paperService.findPapers(title, author, abstractText, cursor, limit, securityContext);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (paperPage.next() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", paperPage.next())
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+
+        return new ResponseEntity<>(paperPage.papers(), headers, HttpStatus.OK);
+    }
+
+    /*
+        Every paper is written as one JSON line as soon as it is read, instead of building the whole list in memory.
+        StreamingResponseBody is written in an async thread, the transaction is opened there by exportPapers().
 
-        return new ResponseEntity<>(papers, HttpStatus.OK);
+        https://github.com/ndjson/ndjson-spec
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export all papers as newline delimited JSON",
+            description = "Public endpoint. Every line is the public PaperDTO of a paper, ordered by id",
+            tags = {"Paper"}
+    )
+    ResponseEntity<StreamingResponseBody> exportPapers() {
+        StreamingResponseBody body = outputStream -> this.paperService.exportPapers(paper -> {
+            try {
+                outputStream.write(this.objectMapper.writeValueAsBytes(paper));
+                outputStream.write('\n');
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
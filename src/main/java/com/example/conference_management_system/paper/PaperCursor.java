@@ -0,0 +1,30 @@
+package com.example.conference_management_system.paper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+    The position of the last paper of a page. The key is the title of the paper for the (title, id) ordering, or its
+    rank for the full text search. The client receives it as an opaque Base64(URL safe) value and sends it back to get
+    the next page. The id comes first because it can not contain the separator while the title can.
+ */
+public record PaperCursor(String key, Long id) {
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String value = this.id + SEPARATOR + this.key;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PaperCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.indexOf(SEPARATOR);
+
+            return new PaperCursor(value.substring(index + 1), Long.parseLong(value.substring(0, index)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
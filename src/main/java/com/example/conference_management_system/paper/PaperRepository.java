@@ -1,14 +1,26 @@
 package com.example.conference_management_system.paper;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import com.example.conference_management_system.config.CacheConfig;
 import com.example.conference_management_system.entity.Paper;
+import com.example.conference_management_system.paper.dto.PaperDTO;
 
 /*
     We are using JOIN FETCH when it comes to paperUsers because there will always be a User associated with a paper but
@@ -67,6 +79,91 @@ public interface PaperRepository extends JpaRepository<Paper, Long>, JpaSpecific
             """)
     Optional<Paper> findByPaperIdFetchingPaperUsersAndConference(@Param("id") Long id);
 
+    @Query("""
+                SELECT DISTINCT p
+                FROM Paper p
+                LEFT JOIN FETCH p.paperUsers
+                WHERE p.conference.id = :conferenceId AND p.id IN :ids
+            """)
+    List<Paper> findByConferenceIdAndPaperIdsFetchingPaperUsers(@Param("conferenceId") UUID conferenceId,
+                                                                @Param("ids") Collection<Long> ids);
+
+    /*
+        Ranked full text search, backed by the GIN index on the generated search_vector column. websearch_to_tsquery()
+        accepts the query as the user types it, quoted phrases, "or" and "-" to exclude a word, and never fails on
+        invalid syntax.
+
+        The pagination is keyset on the (rank DESC, id) ordering. For the first page the rank is Float.MAX_VALUE so
+        every match is included.
+     */
+    @Query(value = """
+                SELECT CAST(ranked.id AS BIGINT) AS id, ranked.rank AS rank
+                FROM (
+                    SELECT p.id, ts_rank(p.search_vector, websearch_to_tsquery('english', :query)) AS rank
+                    FROM papers p
+                    WHERE p.search_vector @@ websearch_to_tsquery('english', :query)
+                ) ranked
+                WHERE ranked.rank < :rank OR (ranked.rank = :rank AND ranked.id > :id)
+                ORDER BY ranked.rank DESC, ranked.id
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<RankedPaper> searchPapers(@Param("query") String query,
+                                   @Param("rank") float rank,
+                                   @Param("id") long id,
+                                   @Param("limit") int limit);
+
+    /*
+        Fuzzy search by title and authors with trigram word similarity. The <% operator is what makes the query use the
+        trigram indexes, calling word_similarity() in the WHERE clause would scan every paper. The operator compares
+        against the pg_trgm.word_similarity_threshold setting, so setWordSimilarityThreshold() has to be called first in
+        the same transaction.
+
+        The term must be lowercase to match the lower() expressions of the indexes.
+     */
+    @Query(value = """
+                SELECT CAST(scored.id AS BIGINT) AS id, scored.score AS rank
+                FROM (
+                    SELECT p.id,
+                        GREATEST(word_similarity(:term, lower(p.title)), word_similarity(:term, lower(p.authors))) AS score
+                    FROM papers p
+                    WHERE :term <% lower(p.title) OR :term <% lower(p.authors)
+                ) scored
+                WHERE scored.score < :score OR (scored.score = :score AND scored.id > :id)
+                ORDER BY scored.score DESC, scored.id
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<RankedPaper> findSimilarPapers(@Param("term") String term,
+                                        @Param("score") float score,
+                                        @Param("id") long id,
+                                        @Param("limit") int limit);
+
+    /*
+        is_local = true, the setting only lasts until the end of the current transaction, so it never leaks to other
+        requests through the connection pool.
+     */
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") String threshold);
+
+    /*
+        Second step of the paginated findPapers()/searchPapers()/findSimilarPapers(). The ids are the ones of the
+        requested page, so the collections are fetched only for the papers that are going to be returned.
+
+        We fetch the paperUsers here and the reviews with fetchReviewsForPapers() in a separate query. Fetching both
+        collections in one query would return paperUsers x reviews rows per paper.
+     */
+    @Query("""
+                SELECT p
+                FROM Paper p
+                JOIN FETCH p.paperUsers pu
+                JOIN FETCH pu.user
+                WHERE p.id IN :ids
+            """)
+    List<Paper> findByPaperIdsFetchingPaperUsers(@Param("ids") List<Long> ids);
+
+    /*
+        When called in the same transaction as the query that loaded the papers, it initializes the reviews of those
+        papers in the persistence context.
+     */
     @Query("""
                 SELECT p
                 FROM Paper p
@@ -75,4 +172,97 @@ public interface PaperRepository extends JpaRepository<Paper, Long>, JpaSpecific
                 WHERE p IN :papers
             """)
     List<Paper> fetchReviewsForPapers(@Param("papers") List<Paper> papers);
+
+    /*
+        Read only path for guests. They only get the public PaperDTO, so we select its columns directly instead of
+        loading managed Paper entities into the persistence context. The filters match the PaperSpecs, an empty value
+        means no filter and the values must be lowercase. The cursor is the same (title, id) keyset, for the first page
+        the title is an empty string which every title is greater than.
+
+        The return type is a List, so the Pageable only limits the rows and no count query is executed.
+     */
+    @Query("""
+                SELECT new com.example.conference_management_system.paper.dto.PaperDTO(
+                    p.id, p.createdDate, p.title, p.abstractText, p.authors, p.keywords)
+                FROM Paper p
+                WHERE (:title = '' OR LOWER(p.title) LIKE CONCAT('%', :title, '%'))
+                    AND (:author = '' OR LOWER(p.authors) LIKE CONCAT('%', :author, '%'))
+                    AND (:abstractText = '' OR LOWER(p.abstractText) LIKE CONCAT('%', :abstractText, '%'))
+                    AND (p.title > :cursorTitle OR (p.title = :cursorTitle AND p.id > :cursorId))
+                ORDER BY p.title, p.id
+            """)
+    List<PaperDTO> findPaperDTOs(@Param("title") String title,
+                                 @Param("author") String author,
+                                 @Param("abstractText") String abstractText,
+                                 @Param("cursorTitle") String cursorTitle,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    @Query("""
+                SELECT new com.example.conference_management_system.paper.dto.PaperDTO(
+                    p.id, p.createdDate, p.title, p.abstractText, p.authors, p.keywords)
+                FROM Paper p
+                WHERE p.id IN :ids
+            """)
+    List<PaperDTO> findPaperDTOsByIds(@Param("ids") List<Long> ids);
+
+    /*
+        The public PaperDTO is the same for every user, so it is cached by paper id. The methods that modify a paper
+        evict it. A missing paper is not cached, the unless condition is evaluated on the value of the Optional.
+     */
+    @Cacheable(cacheNames = CacheConfig.PAPERS_CACHE, unless = "#result == null")
+    @Query("""
+                SELECT new com.example.conference_management_system.paper.dto.PaperDTO(
+                    p.id, p.createdDate, p.title, p.abstractText, p.authors, p.keywords)
+                FROM Paper p
+                WHERE p.id = :id
+            """)
+    Optional<PaperDTO> findPaperDTOById(@Param("id") Long id);
+
+    @Query("""
+                SELECT p.version
+                FROM Paper p
+                WHERE p.id = :id
+            """)
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /*
+        Bulk state transitions of the papers of a conference, a single UPDATE however many papers the conference has.
+        A bulk update bypasses the persistence context, so the version is incremented here for the ETags to change and
+        the pending changes are flushed before it and the context is cleared after it, no managed paper keeps the old
+        state.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Paper p
+                SET p.state = :newState, p.version = p.version + 1
+                WHERE p.conference.id = :conferenceId AND p.state = :state
+            """)
+    int updateStateByConferenceIdAndState(@Param("conferenceId") UUID conferenceId,
+                                          @Param("state") PaperState state,
+                                          @Param("newState") PaperState newState);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Paper p
+                SET p.state = :newState, p.conference = null, p.version = p.version + 1
+                WHERE p.conference.id = :conferenceId AND p.state = :state
+            """)
+    int updateStateAndRemoveConferenceByConferenceIdAndState(@Param("conferenceId") UUID conferenceId,
+                                                             @Param("state") PaperState state,
+                                                             @Param("newState") PaperState newState);
+
+    /*
+        Used by the NDJSON export of the papers. The rows are read from an open cursor, the PostgreSQL driver only uses
+        the fetch size inside a transaction, otherwise it reads the whole result set in memory. The DTOs are not
+        managed, so the persistence context does not grow while the stream is consumed. The stream must be closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+                SELECT new com.example.conference_management_system.paper.dto.PaperDTO(
+                    p.id, p.createdDate, p.title, p.abstractText, p.authors, p.keywords)
+                FROM Paper p
+                ORDER BY p.id
+            """)
+    Stream<PaperDTO> streamPaperDTOs();
 }
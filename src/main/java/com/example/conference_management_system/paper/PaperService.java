@@ -2,7 +2,9 @@ package com.example.conference_management_system.paper;
 
 import com.example.conference_management_system.auth.AuthService;
 import com.example.conference_management_system.conference.ConferenceState;
+import com.example.conference_management_system.config.CacheConfig;
 import com.example.conference_management_system.content.ContentRepository;
+import com.example.conference_management_system.content.ContentService;
 import com.example.conference_management_system.entity.Content;
 import com.example.conference_management_system.entity.Paper;
 import com.example.conference_management_system.entity.PaperUser;
@@ -13,11 +15,11 @@ import com.example.conference_management_system.exception.DuplicateResourceExcep
 import com.example.conference_management_system.exception.ResourceNotFoundException;
 import com.example.conference_management_system.exception.ServerErrorException;
 import com.example.conference_management_system.exception.StateConflictException;
-import com.example.conference_management_system.exception.UnsupportedFileException;
 import com.example.conference_management_system.paper.dto.AuthorAdditionRequest;
 import com.example.conference_management_system.paper.dto.PaperCreateRequest;
 import com.example.conference_management_system.paper.dto.PaperDTO;
 import com.example.conference_management_system.paper.dto.PaperFile;
+import com.example.conference_management_system.paper.dto.PaperPage;
 import com.example.conference_management_system.paper.dto.PaperUpdateRequest;
 import com.example.conference_management_system.paper.mapper.AuthorPaperDTOMapper;
 import com.example.conference_management_system.paper.mapper.PaperDTOMapper;
@@ -29,18 +31,29 @@ import com.example.conference_management_system.role.RoleType;
 import com.example.conference_management_system.security.SecurityUser;
 import com.example.conference_management_system.user.UserService;
 import com.example.conference_management_system.file.FileService;
+import com.example.conference_management_system.file.StagedFile;
+import com.example.conference_management_system.outbox.OutboxEventType;
+import com.example.conference_management_system.outbox.OutboxService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContext;
@@ -59,15 +72,20 @@ public class PaperService {
     private final PaperRepository paperRepository;
     private final PaperUserRepository paperUserRepository;
     private final ContentRepository contentRepository;
+    private final ContentService contentService;
     private final ReviewRepository reviewRepository;
     private final UserService userService;
     private final AuthService authService;
     private final RoleService roleService;
     private final FileService fileService;
+    private final OutboxService outboxService;
     private final ReviewerPaperDTOMapper reviewerPaperDTOMapper = new ReviewerPaperDTOMapper();
     private final AuthorPaperDTOMapper authorPaperDTOMapper = new AuthorPaperDTOMapper();
     private final PaperDTOMapper paperDTOMapper = new PaperDTOMapper();
+    @Value("${papers.search.similarity-threshold:0.4}")
+    private float similarityThreshold;
     private static final Logger logger = LoggerFactory.getLogger(PaperService.class);
+    private static final int MAX_PAGE_LIMIT = 100;
     private static final String PAPER_NOT_FOUND_MSG = "Paper not found with id: ";
     private static final String ACCESS_DENIED_MSG = "Access denied";
     private static final String SERVER_ERROR_MSG = "The server encountered an internal error and was unable to " +
@@ -77,7 +95,10 @@ public class PaperService {
         In order to create a paper a user has to be authenticated. The user that made the request to create the paper
         must also be assigned the role ROLE_AUTHOR and their name must be added as one of the paper's authors if not
         already. In both cases if the condition is true prior the check, both ignored.
+
+        It is transactional because the stored file is referenced while the content is saved, see ContentService.
      */
+    @Transactional
     Long createPaper(PaperCreateRequest paperCreateRequest,
                      SecurityUser securityUser,
                      HttpServletRequest servletRequest) {
@@ -87,6 +108,13 @@ public class PaperService {
             throw new DuplicateResourceException("A paper with the provided title already exists");
         }
 
+        /*
+            The type of the file is detected while it is stored, so the file is stored before the role is assigned to
+            the user. An unsupported file must not leave the user with a new role.
+         */
+        Content content = new Content();
+        setupContent(content, paperCreateRequest.file());
+
         /*
             If the current user is assigned a new role, it means that now they have access to new endpoints in
             subsequent requests but making one request to these endpoint would result in 403 despite them having the
@@ -102,8 +130,6 @@ public class PaperService {
         Set<String> authors = new HashSet<>(List.of(paperCreateRequest.authors().split(";")));
         authors.add(securityUser.user().getFullName());
 
-        Content content = new Content();
-        setupContent(content, paperCreateRequest.file());
         Paper paper = new Paper(
                 paperCreateRequest.title(),
                 paperCreateRequest.abstractText(),
@@ -135,6 +161,7 @@ public class PaperService {
         https://docs.spring.io/spring-framework/reference/data-access/transaction/declarative/annotations.html
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAPERS_CACHE, key = "#paperId")
     void updatePaper(Long paperId, PaperUpdateRequest paperUpdateRequest, SecurityUser securityUser) {
         if (paperUpdateRequest.title() == null
                 && paperUpdateRequest.authors() == null
@@ -171,16 +198,21 @@ public class PaperService {
             validateFile(paperUpdateRequest.file());
                 /*
                     1) Find the content for the specific paper that contains the original file name, the generated file
-                       name(UUID) and the file extension
-                    2) Delete the file that is stored with the generated name
-                    3) Set up the content values from the new file
-                    4) Update the record in DB
+                       name(SHA-256) and the file extension
+                    2) Store the new file and set up the content values from it. If the file is the same as the
+                       previous one, it is not stored again and only the original file name can change
+                    3) Update the record in DB
+                    4) Release the previous file, it is deleted after the commit if no other paper has the same file
                  */
             this.contentRepository.findByPaperId(paperId).ifPresent(
                     content -> {
-                        this.fileService.deleteFile(content.getGeneratedFileName());
+                        String previousFileName = content.getGeneratedFileName();
                         setupContent(content, paperUpdateRequest.file());
                         this.contentRepository.save(content);
+
+                        if (!previousFileName.equals(content.getGeneratedFileName())) {
+                            this.contentService.releaseReference(previousFileName);
+                        }
                     }
             );
         }
@@ -203,6 +235,7 @@ public class PaperService {
         https://docs.spring.io/spring-framework/reference/data-access/transaction/declarative/annotations.html
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAPERS_CACHE, key = "#paperId")
     void addCoAuthor(Long paperId, AuthorAdditionRequest authorAdditionRequest, SecurityUser securityUser) {
         Paper paper = this.paperRepository.findByPaperIdFetchingPaperUsers(paperId).orElseThrow(() ->
                 new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
@@ -267,6 +300,7 @@ public class PaperService {
         https://docs.spring.io/spring-framework/reference/data-access/transaction/declarative/annotations.html
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAPERS_CACHE, key = "#paperId")
     Long reviewPaper(Long paperId, ReviewCreateRequest reviewCreateRequest, SecurityUser securityUser) {
         Paper paper = this.paperRepository.findByPaperIdFetchingPaperUsersAndConference(paperId).orElseThrow(() ->
                 new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
@@ -304,6 +338,10 @@ public class PaperService {
         this.reviewRepository.save(review);
         paper.setState(PaperState.REVIEWED);
         this.paperRepository.save(paper);
+        this.outboxService.append(OutboxEventType.PAPER_REVIEWED, paperId, Map.of(
+                "paperId", paperId,
+                "reviewId", review.getId(),
+                "conferenceId", paper.getConference().getId()));
 
         return review.getId();
     }
@@ -319,6 +357,7 @@ public class PaperService {
         https://docs.spring.io/spring-framework/reference/data-access/transaction/declarative/annotations.html
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PAPERS_CACHE, key = "#paperId")
     void withdrawPaper(Long paperId, SecurityUser securityUser) {
         Paper paper = this.paperRepository.findByPaperIdFetchingPaperUsersAndConference(paperId).orElseThrow(() ->
                 new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
@@ -386,7 +425,8 @@ public class PaperService {
 
         Resource file = this.fileService.getFile(content.getGeneratedFileName());
 
-        return new PaperFile(file, content.getOriginalFileName());
+        return new PaperFile(file, content.getOriginalFileName(), content.getGeneratedFileName(),
+                content.getEncoding(), content.getFileSize());
     }
 
     /*
@@ -394,47 +434,169 @@ public class PaperService {
         according to the role.
      */
     PaperDTO findPaperById(Long paperId, SecurityContext context) {
-        Paper paper = this.paperRepository.findByPaperIdFetchingPaperUsersAndReviews(paperId).orElseThrow(() ->
+        PaperDTO paperDTO = this.paperRepository.findPaperDTOById(paperId).orElseThrow(() ->
                 new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
         );
 
-        if (context.getAuthentication().getPrincipal() instanceof SecurityUser securityUser) {
-            if (isInRelationshipWithPaper(paper, securityUser.user(), RoleType.ROLE_AUTHOR)) {
-                return this.authorPaperDTOMapper.convert(paper);
-            }
+        /*
+            The public PaperDTO comes from the cache. Only the authors and the reviewers of the paper get a different
+            view, and for them the paper is loaded with its users and reviews on every request.
+         */
+        if (context.getAuthentication().getPrincipal() instanceof SecurityUser securityUser
+                && this.paperUserRepository.existsById(new PaperUserId(paperId, securityUser.user().getId()))) {
+            Paper paper = this.paperRepository.findByPaperIdFetchingPaperUsersAndReviews(paperId).orElseThrow(() ->
+                    new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
+            );
 
-            if (isInRelationshipWithPaper(paper, securityUser.user(), RoleType.ROLE_REVIEWER)) {
-                return this.reviewerPaperDTOMapper.convert(paper);
-            }
+            return associateUser(paper, securityUser.user());
         }
 
-        return this.paperDTOMapper.convert(paper);
+        return paperDTO;
     }
 
-    List<PaperDTO> findPapers(String title, String author, String abstractText, SecurityContext securityContext) {
-        PaperSpecs paperSpecs = new PaperSpecs(title, author, abstractText);
-        List<Paper> papers = this.paperRepository.findAll(paperSpecs, Sort.by("title"));
+    /*
+        The ETag of findPaperById(). It changes with the version of the paper and with the view of the requesting user,
+        authors and reviewers get a different body than everyone else for the same version. Only the version and the
+        role of the user are selected, so a conditional request that did not change never loads the paper.
+     */
+    String findPaperETag(Long paperId, SecurityContext context) {
+        Long version = this.paperRepository.findVersionById(paperId).orElseThrow(() ->
+                new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId)
+        );
 
-        if (securityContext.getAuthentication().getPrincipal() instanceof SecurityUser securityUser) {
-            return papers.stream()
-                    .map(paper -> associateUser(paper, securityUser.user()))
-                    .toList();
+        String view = "public";
+        if (context.getAuthentication().getPrincipal() instanceof SecurityUser securityUser) {
+            view = this.paperUserRepository.findRoleTypeById(new PaperUserId(paperId, securityUser.user().getId()))
+                    .map(RoleType::name)
+                    .orElse(view);
         }
 
-        return papers.stream()
-                .map(this.paperDTOMapper::convert)
-                .toList();
+        return version + "-" + view;
+    }
+
+    /*
+        Keyset pagination on the (title, id) ordering. We ask for one paper more than the limit to know if there is a
+        next page without having to run a COUNT query. The first query only selects the papers of the page, and only for
+        authenticated users, where the role based DTOs need the paper users and the reviews, we fetch the collections
+        for the ids of that page. Guests get the PaperDTO columns directly from the query without loading any entity.
+     */
+    @Transactional(readOnly = true)
+    PaperPage findPapers(String title,
+                         String author,
+                         String abstractText,
+                         String cursor,
+                         int limit,
+                         SecurityContext securityContext) {
+        validateLimit(limit);
+
+        PaperCursor paperCursor = cursor == null ? null : PaperCursor.decode(cursor);
+        if (!(securityContext.getAuthentication().getPrincipal() instanceof SecurityUser)) {
+            PaperCursor position = paperCursor == null ? new PaperCursor("", 0L) : paperCursor;
+            List<PaperDTO> papers = this.paperRepository.findPaperDTOs(
+                    title.isBlank() ? "" : title.toLowerCase(),
+                    author.isBlank() ? "" : author.toLowerCase(),
+                    abstractText.isBlank() ? "" : abstractText.toLowerCase(),
+                    position.key(),
+                    position.id(),
+                    PageRequest.ofSize(limit + 1));
+
+            return toPage(papers, limit, paper -> new PaperCursor(paper.getTitle(), paper.getId()), Function.identity());
+        }
+
+        PaperSpecs paperSpecs = new PaperSpecs(title, author, abstractText, paperCursor);
+        List<Paper> papers = this.paperRepository.findBy(paperSpecs, query -> query
+                .sortBy(Sort.by("title", "id"))
+                .limit(limit + 1)
+                .all());
+
+        return toPage(papers, limit, paper -> new PaperCursor(paper.getTitle(), paper.getId()), page ->
+                findPapersByIds(page.stream().map(Paper::getId).toList(), securityContext));
+    }
+
+    /*
+        Full text search over the title, keywords, authors and abstract of the papers ordered by relevance. The same
+        keyset pagination as findPapers() applies, with the rank of the last paper as the key of the cursor.
+     */
+    @Transactional(readOnly = true)
+    PaperPage searchPapers(String query, String cursor, int limit, SecurityContext securityContext) {
+        validateLimit(limit);
+
+        PaperCursor paperCursor = decodeRankCursor(cursor);
+        List<RankedPaper> rankedPapers = this.paperRepository.searchPapers(
+                query,
+                Float.parseFloat(paperCursor.key()),
+                paperCursor.id(),
+                limit + 1);
+
+        return toPage(rankedPapers, limit, this::toRankCursor, page ->
+                findPapersByIds(page.stream().map(RankedPaper::getId).toList(), securityContext));
+    }
+
+    /*
+        Fuzzy search by title and authors ordered by similarity, so small typos in the name of an author still find the
+        paper. The threshold is set for the current transaction only, that's why the method has to be transactional.
+        The same keyset pagination as searchPapers() applies, with the similarity score as the key of the cursor.
+     */
+    @Transactional(readOnly = true)
+    PaperPage findSimilarPapers(String term, String cursor, int limit, SecurityContext securityContext) {
+        validateLimit(limit);
+
+        PaperCursor paperCursor = decodeRankCursor(cursor);
+        this.paperRepository.setWordSimilarityThreshold(Float.toString(this.similarityThreshold));
+        List<RankedPaper> rankedPapers = this.paperRepository.findSimilarPapers(
+                term.toLowerCase(),
+                Float.parseFloat(paperCursor.key()),
+                paperCursor.id(),
+                limit + 1);
+
+        return toPage(rankedPapers, limit, this::toRankCursor, page ->
+                findPapersByIds(page.stream().map(RankedPaper::getId).toList(), securityContext));
+    }
+
+    /*
+        Passes every paper to the consumer as it is read from the database, so the memory does not depend on the
+        number of papers. It has to be transactional for the stream to be read with a cursor.
+     */
+    @Transactional(readOnly = true)
+    void exportPapers(Consumer<PaperDTO> consumer) {
+        try (Stream<PaperDTO> papers = this.paperRepository.streamPaperDTOs()) {
+            papers.forEach(consumer);
+        }
     }
 
+    /*
+        Used by the conference to submit papers and change their state, so the cached PaperDTO is evicted here.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PAPERS_CACHE, key = "#paper.id")
     public void save(Paper paper) {
         this.paperRepository.save(paper);
     }
 
+    /*
+        Used by the conference to change the state of all of its papers in one statement. Nothing is evicted, the cached
+        PaperDTO has neither the state nor the conference of the paper.
+     */
+    public int updateStateByConferenceId(UUID conferenceId, PaperState state, PaperState newState) {
+        return this.paperRepository.updateStateByConferenceIdAndState(conferenceId, state, newState);
+    }
+
+    public int updateStateAndRemoveConferenceByConferenceId(UUID conferenceId, PaperState state, PaperState newState) {
+        return this.paperRepository.updateStateAndRemoveConferenceByConferenceIdAndState(conferenceId, state,
+                newState);
+    }
+
     public Paper findByPaperIdFetchingPaperUsersAndConference(Long paperId) {
         return this.paperRepository.findByPaperIdFetchingPaperUsersAndConference(paperId).orElseThrow(() ->
                 new ResourceNotFoundException(PAPER_NOT_FOUND_MSG + paperId));
     }
 
+    /*
+        The papers of the conference among the given ids, ids of papers that are not submitted to it are left out
+     */
+    public List<Paper> findByConferenceIdAndPaperIdsFetchingPaperUsers(UUID conferenceId, Collection<Long> paperIds) {
+        return this.paperRepository.findByConferenceIdAndPaperIdsFetchingPaperUsers(conferenceId, paperIds);
+    }
+
     public boolean isInRelationshipWithPaper(Paper paper, User user, RoleType roleType) {
         return paper.getPaperUsers()
                 .stream()
@@ -485,12 +647,15 @@ public class PaperService {
     }
 
     /*
-        Validating both the name and the Mime type of file. We support only .pdf and .tex files. We check the files
-        signature a sequence of bytes at the start of the file that indicate its type.
+        Validating the name of the file. The Mime type is validated by FileService.stageFile() from the file signature,
+        a sequence of bytes at the start of the file that indicate its type, while the file is stored. We support only
+        .pdf and .tex files.
      */
     private void validateFile(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
+        validateFileName(file.getOriginalFilename());
+    }
 
+    void validateFileName(String fileName) {
         if (fileName != null && !fileName.matches("[a-zA-Z0-9\\- ._]+")) {
             throw new IllegalArgumentException("The file name must contain only alphanumeric characters, hyphen, " +
                     "underscores spaces, and periods");
@@ -499,12 +664,54 @@ public class PaperService {
         if (fileName != null && fileName.length() > 100) {
             throw new IllegalArgumentException("File name must not exceed 100 characters");
         }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+    }
+
+    /*
+        The cursor of the ranked searches has the rank of the last paper as key. For the first page we start from
+        Float.MAX_VALUE so every match is included.
+     */
+    private PaperCursor decodeRankCursor(String cursor) {
+        if (cursor == null) {
+            return new PaperCursor(Float.toString(Float.MAX_VALUE), 0L);
+        }
+
+        PaperCursor paperCursor = PaperCursor.decode(cursor);
+        try {
+            Float.parseFloat(paperCursor.key());
+        } catch (NumberFormatException nfe) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
 
-        if (!this.fileService.isFileSupported(file)) {
-            throw new UnsupportedFileException("The provided file is not supported. Make sure your file is either a"
-                    + " pdf or a Latex one");
+        return paperCursor;
+    }
+
+    private PaperCursor toRankCursor(RankedPaper rankedPaper) {
+        return new PaperCursor(Float.toString(rankedPaper.getRank()), rankedPaper.getId());
+    }
+
+    /*
+        The queries of the paginated methods select one row more than the limit. If it exists there is a next page and
+        its cursor is the position of the last paper of the current page.
+     */
+    private <T> PaperPage toPage(List<T> results,
+                                 int limit,
+                                 Function<T, PaperCursor> position,
+                                 Function<List<T>, List<PaperDTO>> mapper) {
+        String next = null;
+        if (results.size() > limit) {
+            results = results.subList(0, limit);
+            next = position.apply(results.get(limit - 1)).encode();
         }
+
+        return new PaperPage(mapper.apply(results), next);
     }
+
     private <T> void updatePropertyIfNonNull(T property, Consumer<T> validator, Consumer<T> updater) {
         if (property != null) {
             validator.accept(property);
@@ -516,23 +723,59 @@ public class PaperService {
         https://cheatsheetseries.owasp.org/cheatsheets/File_Upload_Cheat_Sheet.html#content-type-validation
 
         Following OWASP best practices for file uploads, we have to rename the file to something generated by the
-        application like a UUID. We store the file with the new name in our file system, and we keep a reference in our
-        db with the original file name as provided by the user, the file name generated by the application and the
-        correct file extension found by using Apache Tika not the one extracted by the original file name.
+        application, the SHA-256 of its content. We store the file with the new name in our file system, and we keep a
+        reference in our db with the original file name as provided by the user, the file name generated by the
+        application and the correct file extension found by using Apache Tika not the one extracted by the original file
+        name. Papers with the same file reference the same stored file.
 
         Using file.getContentType() would not work. We have to use Apache Tika that verifies the file signature(magic
-        number) bytes at the start of each file to correctly identify the Mime type and the file extension.
+        number) bytes at the start of each file to correctly identify the Mime type and the file extension. The
+        detection, the checksum and the write to disk happen in a single read of the upload in stageFile().
      */
 
     private void setupContent(Content content, MultipartFile file) {
         String originalFileName = file.getOriginalFilename();
-        String generatedFileName = UUID.randomUUID().toString();
-        String fileExtension = this.fileService.findFileExtension(file);
-        this.fileService.saveFile(file, generatedFileName);
+        StagedFile stagedFile = this.fileService.stageFile(file);
+        this.contentService.addReference(stagedFile);
 
         content.setOriginalFileName(originalFileName);
-        content.setGeneratedFileName(generatedFileName);
-        content.setFileExtension(fileExtension);
+        content.setGeneratedFileName(stagedFile.fileName());
+        content.setFileExtension(stagedFile.fileExtension());
+        content.setSha256(stagedFile.sha256());
+        content.setFileSize(stagedFile.size());
+        content.setEncoding(stagedFile.encoding());
+    }
+
+    /*
+        Loads the papers of a page and maps them in the order of the given ids. Only authenticated users need the paper
+        users and the reviews for the role based DTOs, guests get the plain PaperDTO selected directly by its columns.
+        The two collections are loaded with one query each, so the rows grow linearly with the page and not with
+        paperUsers x reviews. The caller has to be transactional for the second query to initialize the reviews of the papers returned by the first one.
+     */
+    private List<PaperDTO> findPapersByIds(List<Long> ids, SecurityContext securityContext) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        if (securityContext.getAuthentication().getPrincipal() instanceof SecurityUser securityUser) {
+            List<Paper> papers = this.paperRepository.findByPaperIdsFetchingPaperUsers(ids);
+            this.paperRepository.fetchReviewsForPapers(papers);
+            Map<Long, Paper> papersById = papers.stream()
+                    .collect(Collectors.toMap(Paper::getId, Function.identity()));
+
+            return ids.stream()
+                    .map(papersById::get)
+                    .map(paper -> associateUser(paper, securityUser.user()))
+                    .toList();
+        }
+
+        Map<Long, PaperDTO> papers = this.paperRepository.findPaperDTOsByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(PaperDTO::getId, Function.identity()));
+
+        return ids.stream()
+                .map(papers::get)
+                .toList();
     }
 
     private PaperDTO associateUser(final Paper paper, final User user) {
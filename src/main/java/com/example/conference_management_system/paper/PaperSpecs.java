@@ -2,13 +2,10 @@ package com.example.conference_management_system.paper;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Fetch;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import com.example.conference_management_system.entity.Paper;
-import com.example.conference_management_system.entity.PaperUser;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,34 +16,40 @@ public class PaperSpecs implements Specification<Paper> {
     private final String title;
     private final String author;
     private final String abstractText;
+    private final PaperCursor cursor;
 
     public PaperSpecs(String title, String author, String abstractText) {
+        this(title, author, abstractText, null);
+    }
+
+    public PaperSpecs(String title, String author, String abstractText, PaperCursor cursor) {
         this.title = title;
         this.author = author;
         this.abstractText = abstractText;
+        this.cursor = cursor;
     }
 
     /*
         The findAll() endpoint can have optional query parameters to filter the papers. We build the query dynamically
-        and handling the potential N+1 query problems using Specifications and Criteria API.
+        using Specifications and Criteria API.
 
-        The equivalent JPQL query for the fetch setup is something like
+        We no longer fetch the paperUsers and the reviews here. The query only selects the papers of the requested page,
+        and the collections are fetched afterward only for the ids of that page. Fetching them here would load every
+        matching paper with all its users and reviews before the page was cut.
+
+        The equivalent JPQL query is something like
 
                 SELECT p
                 FROM Paper p
-                JOIN p.paperUsers pu
-                JOIN pu.user u
-                LEFT JOIN p.reviews r
                 WHERE LOWER(p.title) LIKE '%some title%'
                     AND LOWER(p.authors) LIKE '%some author%'
                     AND LOWER(p.abstractText) LIKE '%some abstract%'
+                    AND (p.title > :cursorTitle OR (p.title = :cursorTitle AND p.id > :cursorId))
+                ORDER BY p.title, p.id
      */
     @Override
     public Predicate toPredicate(Root<Paper> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
         List<Predicate> predicates = new ArrayList<>();
-        Fetch<Paper, PaperUser> paperUsersFetch = root.fetch("paperUsers", JoinType.INNER);
-        paperUsersFetch.fetch("user", JoinType.INNER);
-        root.fetch("reviews", JoinType.LEFT);
 
         if (!this.title.isBlank()) {
             predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("title")),
@@ -63,6 +66,19 @@ public class PaperSpecs implements Specification<Paper> {
                     "%" + this.abstractText.toLowerCase() + "%"));
         }
 
+        /*
+            Keyset pagination. We continue right after the last paper of the previous page in the (title, id) ordering
+            instead of skipping rows with an offset.
+         */
+        if (this.cursor != null) {
+            predicates.add(criteriaBuilder.or(
+                    criteriaBuilder.greaterThan(root.get("title"), this.cursor.key()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("title"), this.cursor.key()),
+                            criteriaBuilder.greaterThan(root.get("id"), this.cursor.id()))
+            ));
+        }
+
         predicates.add(root.isNotNull());
         Predicate[] predicatesArr = predicates.toArray(new Predicate[0]);
 
@@ -0,0 +1,144 @@
+package com.example.conference_management_system.paper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.conference_management_system.paper.dto.UploadSessionCreateRequest;
+import com.example.conference_management_system.paper.dto.UploadSessionDTO;
+import com.example.conference_management_system.security.SecurityUser;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/papers/uploads")
+class PaperUploadController {
+    private final PaperUploadService paperUploadService;
+
+    @PostMapping
+    @Operation(
+            summary = "Start a chunked upload of a paper file",
+            description = "Accessible to authenticated users. The file is then sent in chunks and the upload is completed with the rest " +
+                    "of the paper. The id of the upload is in the location header to be used in subsequent requests.",
+            tags = {"Paper"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    ResponseEntity<UploadSessionDTO> createUploadSession(
+            @Valid @RequestBody UploadSessionCreateRequest uploadSessionCreateRequest,
+            @AuthenticationPrincipal SecurityUser securityUser,
+            UriComponentsBuilder uriBuilder) {
+        UploadSessionDTO uploadSessionDTO = this.paperUploadService.createUploadSession(uploadSessionCreateRequest,
+                securityUser);
+
+        URI location = uriBuilder
+                .path("/api/v1/papers/uploads/{id}")
+                .buildAndExpand(uploadSessionDTO.id())
+                .toUri();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLocation(location);
+
+        return new ResponseEntity<>(uploadSessionDTO, headers, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Find the offset of a chunked upload",
+            description = "Accessible to the user who started the upload. The offset is the number of bytes received so far, the next " +
+                    "chunk must start there.",
+            tags = {"Paper"},
+            security = {
+                    @SecurityRequirement(name = "cookieAuth")
+            })
+    ResponseEntity<UploadSessionDTO> findUploadSession(@PathVariable("id") UUID id,
+                                                       @AuthenticationPrincipal SecurityUser securityUser) {
+        UploadSessionDTO uploadSessionDTO = this.paperUploadService.findUploadSession(id, securityUser);
+
+        return new ResponseEntity<>(uploadSessionDTO, HttpStatus.OK);
+    }
+
+    /*
+        The chunk is the raw body of the request. A chunk that does not start at the current offset gets 409, and the
+        client finds the offset to continue from with the GET request.
+     */
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(
+            summary = "Upload a chunk of the file",
+            description = "Accessible to the user who started the upload. The chunk must start at the offset of the upload.",
+            tags = {"Paper"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    ResponseEntity<UploadSessionDTO> appendChunk(@PathVariable("id") UUID id,
+                                                 @RequestParam("offset") long offset,
+                                                 @AuthenticationPrincipal SecurityUser securityUser,
+                                                 HttpServletRequest servletRequest) throws IOException {
+        UploadSessionDTO uploadSessionDTO = this.paperUploadService.appendChunk(id, offset,
+                servletRequest.getInputStream(), securityUser);
+
+        return new ResponseEntity<>(uploadSessionDTO, HttpStatus.OK);
+    }
+
+    @PostMapping("/{id}/paper")
+    @Operation(
+            summary = "Complete a chunked upload and create the paper",
+            description = "Accessible to the user who started the upload. Same as creating a paper with the uploaded file, the id of the " +
+                    "created paper is in the location header. If the SHA-256 of the file does not match the upload is deleted.",
+            tags = {"Paper"},
+            parameters = {
+                    @Parameter(in = ParameterIn.HEADER, name = "X-XSRF-TOKEN"),
+
+            }, security = {
+            @SecurityRequirement(name = "cookieAuth")
+    })
+    ResponseEntity<Void> completeUpload(@PathVariable("id") UUID id,
+                                        @RequestParam("title") String title,
+                                        @RequestParam("abstractText") String abstractText,
+                                        @RequestParam("authors") String authors,
+                                        @RequestParam("keywords") String keywords,
+                                        @AuthenticationPrincipal SecurityUser securityUser,
+                                        UriComponentsBuilder uriBuilder,
+                                        HttpServletRequest servletRequest) {
+        Long paperId = this.paperUploadService.completeUpload(id, title, abstractText, authors, keywords,
+                securityUser, servletRequest);
+
+        URI location = uriBuilder
+                .path("/api/v1/papers/{id}")
+                .buildAndExpand(paperId)
+                .toUri();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLocation(location);
+
+        return new ResponseEntity<>(headers, HttpStatus.CREATED);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.conference_management_system.paper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.example.conference_management_system.entity.UploadSession;
+import com.example.conference_management_system.exception.ResourceNotFoundException;
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.file.FileService;
+import com.example.conference_management_system.paper.dto.PaperCreateRequest;
+import com.example.conference_management_system.paper.dto.UploadSessionCreateRequest;
+import com.example.conference_management_system.paper.dto.UploadSessionDTO;
+import com.example.conference_management_system.security.SecurityUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/*
+    Resumable uploads of paper files. The client creates a session with the name, the size and the SHA-256 of the file,
+    sends the file in chunks, each one starting at the offset where the previous one ended, and completes the upload
+    with the rest of the paper. A chunk that fails costs only the bytes that did not arrive, the client asks for the
+    offset and continues from there.
+
+    Completing the upload verifies the size and the SHA-256 and creates the paper from the received file with
+    PaperService#createPaper(), exactly like a paper created with a single request. If the paper can not be created
+    (e.g. the title exists) the session is kept and the client can complete it again, if the SHA-256 does not match the
+    file is corrupted and the session is deleted.
+
+    The session is in the database but the received bytes are on the local disk of the node that created it(see
+    FileService#createUploadFile()), so the requests of an upload need sticky routing. On any other node the upload is
+    not found.
+ */
+@Service
+class PaperUploadService {
+    private final UploadSessionRepository uploadSessionRepository;
+    private final PaperService paperService;
+    private final FileService fileService;
+    private final DataSize maxFileSize;
+    private final Duration sessionTtl;
+    private static final Logger logger = LoggerFactory.getLogger(PaperUploadService.class);
+    private static final String UPLOAD_NOT_FOUND_MSG = "Upload not found with id: ";
+
+    PaperUploadService(UploadSessionRepository uploadSessionRepository,
+                       PaperService paperService,
+                       FileService fileService,
+                       @Value("${papers.upload.max-file-size:50MB}") DataSize maxFileSize,
+                       @Value("${papers.upload.session-ttl:24h}") Duration sessionTtl) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.paperService = paperService;
+        this.fileService = fileService;
+        this.maxFileSize = maxFileSize;
+        this.sessionTtl = sessionTtl;
+    }
+
+    UploadSessionDTO createUploadSession(UploadSessionCreateRequest uploadSessionCreateRequest,
+                                         SecurityUser securityUser) {
+        this.paperService.validateFileName(uploadSessionCreateRequest.fileName());
+        if (uploadSessionCreateRequest.size() > this.maxFileSize.toBytes()) {
+            throw new IllegalArgumentException("File size must not exceed " + this.maxFileSize.toMegabytes() + "MB");
+        }
+
+        UploadSession uploadSession = new UploadSession(
+                securityUser.user(),
+                uploadSessionCreateRequest.fileName(),
+                uploadSessionCreateRequest.size(),
+                uploadSessionCreateRequest.sha256().toLowerCase());
+        this.uploadSessionRepository.save(uploadSession);
+        try {
+            this.fileService.createUploadFile(uploadSession.getId());
+        } catch (ServerErrorException see) {
+            this.uploadSessionRepository.deleteById(uploadSession.getId());
+            throw see;
+        }
+
+        return toDTO(uploadSession, 0);
+    }
+
+    UploadSessionDTO findUploadSession(UUID uploadId, SecurityUser securityUser) {
+        UploadSession uploadSession = findOwnUploadSession(uploadId, securityUser);
+
+        return toDTO(uploadSession, this.fileService.getUploadFileSize(uploadId));
+    }
+
+    /*
+        Not transactional, the session is only read. A chunk can take a while to arrive and must not hold a database
+        connection while it does.
+     */
+    UploadSessionDTO appendChunk(UUID uploadId, long offset, InputStream inputStream, SecurityUser securityUser) {
+        UploadSession uploadSession = findOwnUploadSession(uploadId, securityUser);
+        long size = this.fileService.appendChunk(uploadId, offset, uploadSession.getFileSize(), inputStream);
+
+        return toDTO(uploadSession, size);
+    }
+
+    Long completeUpload(UUID uploadId,
+                        String title,
+                        String abstractText,
+                        String authors,
+                        String keywords,
+                        SecurityUser securityUser,
+                        HttpServletRequest servletRequest) {
+        UploadSession uploadSession = findOwnUploadSession(uploadId, securityUser);
+        long received = this.fileService.getUploadFileSize(uploadId);
+
+        if (received != uploadSession.getFileSize()) {
+            throw new StateConflictException("The upload is not complete. Received " + received + " of "
+                    + uploadSession.getFileSize() + " bytes");
+        }
+
+        if (!this.fileService.uploadFileMatches(uploadId, uploadSession.getSha256())) {
+            deleteUploadSession(uploadSession);
+            throw new IllegalArgumentException("The SHA-256 of the uploaded file does not match the one provided. " +
+                    "Please upload the file again");
+        }
+
+        PaperCreateRequest paperCreateRequest = new PaperCreateRequest(
+                title,
+                abstractText,
+                authors,
+                keywords,
+                this.fileService.getUploadFile(uploadId, uploadSession.getOriginalFileName()));
+        Long paperId = this.paperService.createPaper(paperCreateRequest, securityUser, servletRequest);
+        deleteUploadSession(uploadSession);
+
+        return paperId;
+    }
+
+    /*
+        Uploads that were abandoned, their files would otherwise stay in the papers directory forever. The job runs on
+        every node, the sessions are deleted by whichever node finds them first and every node deletes its own expired
+        files, including the ones whose session was deleted by another node.
+     */
+    @Scheduled(cron = "${papers.upload.cleanup-cron:0 0 * * * *}")
+    public void deleteExpiredUploadSessions() {
+        Instant expiry = Instant.now().minus(this.sessionTtl);
+        List<UploadSession> expired = this.uploadSessionRepository.findByCreatedDateBefore(expiry);
+
+        expired.forEach(this::deleteUploadSession);
+        int deletedFiles = this.fileService.deleteUploadFilesModifiedBefore(expiry);
+        logger.info("Deleted {} expired upload sessions and {} upload files", expired.size(), deletedFiles);
+    }
+
+    /*
+        Someone else's session is not found, the ids are random so this does not tell if it exists
+     */
+    private UploadSession findOwnUploadSession(UUID uploadId, SecurityUser securityUser) {
+        UploadSession uploadSession = this.uploadSessionRepository.findById(uploadId).orElseThrow(() ->
+                new ResourceNotFoundException(UPLOAD_NOT_FOUND_MSG + uploadId));
+
+        if (!uploadSession.getUser().getId().equals(securityUser.user().getId())) {
+            logger.debug("User with id: {} is not the owner of upload with id: {}", securityUser.user().getId(),
+                    uploadId);
+            throw new ResourceNotFoundException(UPLOAD_NOT_FOUND_MSG + uploadId);
+        }
+
+        return uploadSession;
+    }
+
+    private void deleteUploadSession(UploadSession uploadSession) {
+        this.uploadSessionRepository.deleteById(uploadSession.getId());
+        this.fileService.deleteUploadFile(uploadSession.getId());
+    }
+
+    private UploadSessionDTO toDTO(UploadSession uploadSession, long offset) {
+        return new UploadSessionDTO(
+                uploadSession.getId(),
+                uploadSession.getOriginalFileName(),
+                uploadSession.getFileSize(),
+                offset);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.conference_management_system.paper;
+
+import com.example.conference_management_system.entity.PaperUser;
+import com.example.conference_management_system.entity.key.PaperUserId;
+
+import java.util.List;
+import java.util.Set;
+
+public interface PaperUserBatchRepository {
+    /*
+        Returns the ids of the inserted rows, the ones that already existed are skipped
+     */
+    Set<PaperUserId> insertAll(List<PaperUser> paperUsers);
+}
@@ -0,0 +1,65 @@
+package com.example.conference_management_system.paper;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.conference_management_system.entity.PaperUser;
+import com.example.conference_management_system.entity.key.PaperUserId;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+    Inserts the rows with a single statement instead of saving each PaperUser. save() on an entity with an assigned id
+    first selects it to decide between insert and merge, so n assignments cost 2n round trips. The rows are sent as
+    arrays and unnested by the database. The statement runs on the connection of the current transaction, but the
+    persistence context does not see the inserted rows, the papers loaded before the insert still have their old
+    paperUsers.
+
+    A row that exists, e.g. a reviewer assigned to the paper by a concurrent request after the caller checked, is skipped
+    with ON CONFLICT instead of failing the whole insert. RETURNING tells the caller which rows were inserted.
+
+    The assigned date is set here, the auditing listener only runs for entities that go through the EntityManager.
+ */
+@RequiredArgsConstructor
+class PaperUserBatchRepositoryImpl implements PaperUserBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<PaperUserId> insertAll(List<PaperUser> paperUsers) {
+        Set<PaperUserId> inserted = new HashSet<>();
+        if (paperUsers.isEmpty()) {
+            return inserted;
+        }
+
+        Long[] paperIds = paperUsers.stream().map(paperUser -> paperUser.getId().getPaperId()).toArray(Long[]::new);
+        Long[] userIds = paperUsers.stream().map(paperUser -> paperUser.getId().getUserId()).toArray(Long[]::new);
+        String[] roleTypes = paperUsers.stream().map(paperUser -> paperUser.getRoleType().name()).toArray(String[]::new);
+
+        this.jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                        INSERT INTO papers_users (paper_id, user_id, role_type, assigned_date)
+                        SELECT assignments.paper_id, assignments.user_id, CAST(assignments.role AS role_type), ?
+                        FROM unnest(CAST(? AS bigint[]), CAST(? AS bigint[]), CAST(? AS text[]))
+                            AS assignments(paper_id, user_id, role)
+                        ON CONFLICT (user_id, paper_id) DO NOTHING
+                        RETURNING paper_id, user_id
+                    """);
+            statement.setDate(1, Date.valueOf(LocalDate.now()));
+            statement.setArray(2, connection.createArrayOf("bigint", paperIds));
+            statement.setArray(3, connection.createArrayOf("bigint", userIds));
+            statement.setArray(4, connection.createArrayOf("text", roleTypes));
+
+            return statement;
+        }, resultSet -> {
+            inserted.add(new PaperUserId(resultSet.getLong("paper_id"), resultSet.getLong("user_id")));
+        });
+
+        return inserted;
+    }
+}
@@ -2,8 +2,20 @@ package com.example.conference_management_system.paper;
 
 import com.example.conference_management_system.entity.PaperUser;
 import com.example.conference_management_system.entity.key.PaperUserId;
+import com.example.conference_management_system.role.RoleType;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PaperUserRepository extends JpaRepository<PaperUser, PaperUserId> {
+import java.util.Optional;
+
+public interface PaperUserRepository extends JpaRepository<PaperUser, PaperUserId>, PaperUserBatchRepository {
+
+    @Query("""
+                SELECT pu.roleType
+                FROM PaperUser pu
+                WHERE pu.id = :id
+            """)
+    Optional<RoleType> findRoleTypeById(@Param("id") PaperUserId id);
 }
@@ -0,0 +1,12 @@
+package com.example.conference_management_system.paper;
+
+/*
+    Projection of the full text and the fuzzy search. Only the id and the rank of the matching papers are selected, the
+    papers of the requested page are loaded afterward by their ids. For the fuzzy search the rank is the similarity
+    score.
+ */
+public interface RankedPaper {
+    Long getId();
+
+    Float getRank();
+}
@@ -0,0 +1,68 @@
+package com.example.conference_management_system.paper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.conference_management_system.exception.ServiceUnavailableException;
+
+import jakarta.servlet.ServletException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Bounds the uploads that are processed at the same time. Every upload holds a request thread while its body is
+    received, a pass over the file and a database connection for its transaction, so on a deadline day the uploads
+    alone could use every thread and connection and starve the read endpoints.
+
+    At most maxConcurrent uploads run, and at most maxQueued wait up to maxWait for one of them to finish. Any other
+    upload is rejected immediately with 503 and Retry-After, a waiting one that times out too. Waiting uploads are
+    admitted in the order they arrived. The uploads are admitted by UploadAdmissionFilter, before their body is read.
+ */
+class UploadAdmission {
+    private final Semaphore admitted;
+    private final Semaphore running;
+    private final Duration maxWait;
+    private final Duration retryAfter;
+    private static final Logger logger = LoggerFactory.getLogger(UploadAdmission.class);
+    private static final String UPLOADS_BUSY_MSG = "Too many uploads are in progress. Please try again later";
+
+    UploadAdmission(int maxConcurrent, int maxQueued, Duration maxWait, Duration retryAfter) {
+        this.admitted = new Semaphore(maxConcurrent + maxQueued);
+        this.running = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+        this.retryAfter = retryAfter;
+    }
+
+    void admit(Upload upload) throws IOException, ServletException {
+        if (!this.admitted.tryAcquire()) {
+            logger.info("Upload rejected, the queue of uploads is full");
+            throw new ServiceUnavailableException(UPLOADS_BUSY_MSG, this.retryAfter);
+        }
+
+        try {
+            if (!this.running.tryAcquire(this.maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.info("Upload rejected, it waited {} for a running upload to finish", this.maxWait);
+                throw new ServiceUnavailableException(UPLOADS_BUSY_MSG, this.retryAfter);
+            }
+
+            try {
+                upload.run();
+            } finally {
+                this.running.release();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(UPLOADS_BUSY_MSG, this.retryAfter);
+        } finally {
+            this.admitted.release();
+        }
+    }
+
+    @FunctionalInterface
+    interface Upload {
+        void run() throws IOException, ServletException;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.conference_management_system.paper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.conference_management_system.exception.ApiError;
+import com.example.conference_management_system.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/*
+    Admits the multipart uploads of paper files(create and update paper) before their body is read. In the controller
+    the DispatcherServlet would have already resolved the multipart request, a rejected upload would have been
+    received on a request thread before it got the 503. The filter runs after the security filter chain, an
+    unauthenticated upload is rejected without taking a slot.
+
+    Whether an update has a file is only known after the body is read, so every multipart update is admitted as an
+    upload. Completing a chunked upload has a small body but processes the whole file, so it is admitted too.
+ */
+@Component
+class UploadAdmissionFilter extends OncePerRequestFilter {
+    private final UploadAdmission uploadAdmission;
+    private final ObjectMapper objectMapper;
+    private final RequestMatcher uploadRequestMatcher = new OrRequestMatcher(
+            new AntPathRequestMatcher("/api/v1/papers", HttpMethod.POST.name()),
+            new AntPathRequestMatcher("/api/v1/papers/{id}", HttpMethod.PUT.name()));
+    private final RequestMatcher completeUploadRequestMatcher = new AntPathRequestMatcher(
+            "/api/v1/papers/uploads/{id}/paper", HttpMethod.POST.name());
+
+    UploadAdmissionFilter(@Value("${papers.upload.max-concurrent:4}") int maxConcurrent,
+                          @Value("${papers.upload.max-queued:16}") int maxQueued,
+                          @Value("${papers.upload.max-wait:2s}") Duration maxWait,
+                          @Value("${papers.upload.retry-after:10s}") Duration retryAfter,
+                          ObjectMapper objectMapper) {
+        this.uploadAdmission = new UploadAdmission(maxConcurrent, maxQueued, maxWait, retryAfter);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        boolean multipart = contentType != null
+                && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+
+        return !(multipart && this.uploadRequestMatcher.matches(request))
+                && !this.completeUploadRequestMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            this.uploadAdmission.admit(() -> filterChain.doFilter(request, response));
+        } catch (ServiceUnavailableException sue) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(sue.getRetryAfter().toSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(this.objectMapper.writeValueAsString(new ApiError(sue.getMessage())));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.conference_management_system.paper;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.conference_management_system.entity.UploadSession;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+
+    List<UploadSession> findByCreatedDateBefore(Instant createdDate);
+}
@@ -3,6 +3,7 @@ package com.example.conference_management_system.paper.dto;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -10,7 +11,12 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @AllArgsConstructor
+@NoArgsConstructor
 @EqualsAndHashCode(of = "id")
+/*
+    The no-args constructor and the setters are how Jackson reads the DTO back from the papers cache, with two
+    constructors of 6 arguments it can not pick one to create it from.
+ */
 public class PaperDTO {
     private Long id;
     private LocalDate createdDate;
@@ -18,4 +24,12 @@ public class PaperDTO {
     private String abstractText;
     private String[] authors;
     private String[] keywords;
+
+    /*
+        Used by the constructor expressions of the read only queries in the PaperRepository. The authors and the
+        keywords are stored as comma separated values, same as in the PaperDTOMapper.
+     */
+    public PaperDTO(Long id, LocalDate createdDate, String title, String abstractText, String authors, String keywords) {
+        this(id, createdDate, title, abstractText, authors.split(","), keywords.split(","));
+    }
 }
@@ -2,5 +2,9 @@ package com.example.conference_management_system.paper.dto;
 
 import org.springframework.core.io.Resource;
 
-public record PaperFile(Resource file, String originalFileName) {
+/*
+    The generated file name is the ETag of the download, a stored file never changes. The encoding is the codec the
+    file is compressed with, null if it is not, and the size is the one of the uncompressed file.
+ */
+public record PaperFile(Resource file, String originalFileName, String generatedFileName, String encoding, Long size) {
 }
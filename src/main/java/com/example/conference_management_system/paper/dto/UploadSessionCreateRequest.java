@@ -0,0 +1,18 @@
+package com.example.conference_management_system.paper.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+public record UploadSessionCreateRequest(
+        @NotBlank(message = "You must provide the name of the file")
+        String fileName,
+        @NotNull(message = "You must provide the size of the file")
+        @Positive(message = "The size of the file must be positive")
+        Long size,
+        @NotNull(message = "You must provide the SHA-256 of the file")
+        @Pattern(regexp = "[0-9a-fA-F]{64}", message = "The SHA-256 of the file must be hex encoded")
+        String sha256
+) {
+}
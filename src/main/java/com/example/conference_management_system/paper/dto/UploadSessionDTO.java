@@ -0,0 +1,9 @@
+package com.example.conference_management_system.paper.dto;
+
+import java.util.UUID;
+
+/*
+    The offset is the number of bytes received so far, the next chunk must start there
+ */
+public record UploadSessionDTO(UUID id, String fileName, long size, long offset) {
+}
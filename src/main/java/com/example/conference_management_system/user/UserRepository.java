@@ -5,8 +5,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.role.RoleType;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -40,4 +43,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
                 WHERE u.id = :id
             """)
     Optional<User> findUserByIdFetchingRoles(@Param("id") Long id);
-}
\ No newline at end of file
+
+    @Query("""
+                SELECT u.id
+                FROM User u
+                JOIN u.roles r
+                WHERE u.id IN :ids AND r.type = :type
+            """)
+    Set<Long> findUserIdsByIdsAndRoleType(@Param("ids") Collection<Long> ids, @Param("type") RoleType type);
+}
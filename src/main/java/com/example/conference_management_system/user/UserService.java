@@ -11,9 +11,13 @@ import org.springframework.stereotype.Service;
 import com.example.conference_management_system.entity.User;
 import com.example.conference_management_system.exception.DuplicateResourceException;
 import com.example.conference_management_system.exception.ResourceNotFoundException;
+import com.example.conference_management_system.role.RoleType;
 import com.example.conference_management_system.user.dto.UserDTO;
 import com.example.conference_management_system.user.mapper.UserDTOMapper;
 
+import java.util.Collection;
+import java.util.Set;
+
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -45,6 +49,13 @@ public class UserService {
         );
     }
 
+    /*
+        The ids of the users among the given ones that have the role
+     */
+    public Set<Long> findUserIdsWithRole(Collection<Long> userIds, RoleType roleType) {
+        return this.userRepository.findUserIdsByIdsAndRoleType(userIds, roleType);
+    }
+
     public void validateUser(User user) {
         if (user.getUsername().length() > 20) {
             throw new IllegalArgumentException("Invalid username. Username must not exceed 20 characters");
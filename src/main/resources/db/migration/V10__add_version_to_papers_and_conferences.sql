@@ -0,0 +1,11 @@
+/*
+    Incremented by Hibernate on every update of the row(@Version). The GET endpoints of a paper and a conference use it
+    as the ETag, so a conditional request can be answered with a lookup of the version instead of loading the entity.
+
+    The PC chair view of a conference includes its papers, its ETag is computed from the versions of the papers of the
+    conference, the index avoids scanning all the papers for that.
+ */
+ALTER TABLE papers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_papers_conference_id ON papers (conference_id);
@@ -0,0 +1,5 @@
+/*
+    Computed while the upload is written to disk. The rows of the files uploaded before this migration have NULL.
+ */
+ALTER TABLE content ADD COLUMN IF NOT EXISTS sha256 CHAR(64);
+ALTER TABLE content ADD COLUMN IF NOT EXISTS file_size BIGINT;
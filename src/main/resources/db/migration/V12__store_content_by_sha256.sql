@@ -0,0 +1,8 @@
+/*
+    The files are stored under the SHA-256 of their content(64 hex characters), the files stored before keep their UUID
+    name. The number of content rows with the same generated_file_name is the reference count of the file, the index
+    is for counting them when a reference is released.
+ */
+ALTER TABLE content ALTER COLUMN generated_file_name TYPE VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_content_generated_file_name ON content (generated_file_name);
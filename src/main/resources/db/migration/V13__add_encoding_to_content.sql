@@ -0,0 +1,7 @@
+/*
+    The codec the file is compressed with at rest(gzip), NULL for files stored as uploaded. Compressed files are stored
+    under the SHA-256 of their uncompressed content with the suffix of the codec(.gz), so the name is longer.
+ */
+ALTER TABLE content ADD COLUMN IF NOT EXISTS encoding VARCHAR(16);
+
+ALTER TABLE content ALTER COLUMN generated_file_name TYPE VARCHAR(72);
@@ -0,0 +1,16 @@
+/*
+    A paper file uploaded in chunks. The bytes received so far are in the upload file, the row has what the file must
+    be once it is complete. Sessions that are not completed are deleted after a while, by created_date.
+ */
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id uuid DEFAULT uuid_generate_v4(),
+    user_id INTEGER NOT NULL,
+    original_file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    sha256 CHAR(64) NOT NULL,
+    created_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_upload_sessions PRIMARY KEY (id),
+    CONSTRAINT fk_upload_sessions_users_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_upload_sessions_created_date ON upload_sessions(created_date);
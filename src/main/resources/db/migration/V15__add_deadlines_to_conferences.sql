@@ -0,0 +1,15 @@
+/*
+    Optional deadlines of the phases of a conference. When the deadline of its current state passes the conference
+    moves to the next state without the chair starting it. next_deadline is the deadline of the current state, the
+    application updates it with the state and the deadlines, so the scheduler finds the due conferences with one index
+    scan. Conferences without a deadline, most of them, are not in the index.
+ */
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS submission_start TIMESTAMP WITH TIME ZONE;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS submission_deadline TIMESTAMP WITH TIME ZONE;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS assignment_deadline TIMESTAMP WITH TIME ZONE;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS review_deadline TIMESTAMP WITH TIME ZONE;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS decision_deadline TIMESTAMP WITH TIME ZONE;
+ALTER TABLE conferences ADD COLUMN IF NOT EXISTS next_deadline TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_conferences_state_next_deadline ON conferences (state, next_deadline)
+    WHERE next_deadline IS NOT NULL;
@@ -0,0 +1,15 @@
+/*
+    Events of the state changes of papers and conferences, inserted in the transaction of the change so an event exists
+    if and only if the change committed. OutboxRelay publishes them to a Redis Stream and deletes them, a row only
+    lives until it is published. The relay reads the rows in id order with FOR UPDATE SKIP LOCKED, every worker takes
+    a different batch.
+ */
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_date TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
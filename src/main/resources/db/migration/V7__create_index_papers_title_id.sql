@@ -0,0 +1,5 @@
+/*
+    Supports the keyset pagination of the papers on the (title, id) ordering. The query can continue from the cursor
+    with an index scan instead of sorting all the matching papers.
+ */
+CREATE INDEX IF NOT EXISTS idx_papers_title_id ON papers (title, id);
@@ -0,0 +1,16 @@
+/*
+    Full text search over the papers. The search_vector is a generated column, so it is always in sync with the row and
+    the application never writes it. The weights rank a match in the title higher than one in the keywords, the authors
+    and finally the abstract.
+
+    The 'english' configuration has to be passed explicitly, the one argument to_tsvector() depends on the
+    default_text_search_config setting, it is not immutable and can not be used in a generated column.
+ */
+ALTER TABLE papers ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(keywords, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(authors, '')), 'C') ||
+    setweight(to_tsvector('english', coalesce(abstract_text, '')), 'D')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_papers_search_vector ON papers USING GIN (search_vector);
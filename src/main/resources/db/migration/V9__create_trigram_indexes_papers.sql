@@ -0,0 +1,11 @@
+/*
+    Trigram indexes for the fuzzy matching of the papers by title and authors. The indexes are on the lower() expressions
+    so the same index serves both the similarity operators of the fuzzy search and the existing
+    LOWER(..) LIKE '%term%' filters, which can not use a btree index because of the leading wildcard.
+
+    https://www.postgresql.org/docs/current/pgtrgm.html#PGTRGM-INDEX
+ */
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_papers_title_trgm ON papers USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_papers_authors_trgm ON papers USING GIN (lower(authors) gin_trgm_ops);
@@ -1,8 +1,11 @@
 package com.example.conference_management_system.conference;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -10,25 +13,33 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.conference_management_system.config.SecurityConfig;
 import com.example.conference_management_system.exception.DuplicateResourceException;
 import com.example.conference_management_system.exception.ResourceNotFoundException;
 import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.file.ArchiveEntry;
+import com.example.conference_management_system.file.FileService;
 import com.example.conference_management_system.user.dto.ReviewerAssignmentRequest;
 import com.example.conference_management_system.review.ReviewDecision;
 import com.example.conference_management_system.conference.dto.ConferenceCreateRequest;
 import com.example.conference_management_system.conference.dto.ConferenceDTO;
+import com.example.conference_management_system.conference.dto.ConferencePage;
 import com.example.conference_management_system.conference.dto.ConferenceUpdateRequest;
 import com.example.conference_management_system.conference.dto.PCChairAdditionRequest;
 import com.example.conference_management_system.conference.dto.PaperSubmissionRequest;
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+import com.example.conference_management_system.conference.dto.ReviewerAssignmentResult;
+import com.example.conference_management_system.conference.dto.ReviewerAutoAssignmentDTO;
 import com.example.conference_management_system.security.SecurityUser;
 import com.example.conference_management_system.security.WithMockCustomUser;
 
@@ -37,11 +48,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -63,6 +77,8 @@ class ConferenceControllerTest {
     private MockMvc mockMvc;
     @MockBean
     private ConferenceService conferenceService;
+    @MockBean
+    private FileService fileService;
     private static final String CONFERENCE_PATH = "/api/v1/conferences";
 
     //createConference()
@@ -1495,6 +1511,83 @@ class ConferenceControllerTest {
                 );
     }
 
+    //assignReviewers()
+    @Test
+    @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
+    void should200WithAResultPerAssignmentOnReviewersAssignment() throws Exception {
+        UUID conferenceId = UUID.randomUUID();
+        String requestBody = """
+                [
+                    { "paperId": 1, "userId": 2 },
+                    { "paperId": 1, "userId": 3 }
+                ]
+                """;
+        String responseBody = """
+                [
+                    { "paperId": 1, "userId": 2, "assigned": true, "message": null },
+                    { "paperId": 1, "userId": 3, "assigned": false, "message": "User is not a reviewer with id: 3" }
+                ]
+                """;
+        when(this.conferenceService.assignReviewers(
+                eq(conferenceId),
+                eq(List.of(new ReviewerAssignment(1L, 2L), new ReviewerAssignment(1L, 3L))),
+                any(SecurityUser.class))).thenReturn(List.of(
+                new ReviewerAssignmentResult(1L, 2L, true, null),
+                new ReviewerAssignmentResult(1L, 3L, false, "User is not a reviewer with id: 3")));
+
+        this.mockMvc.perform(post(CONFERENCE_PATH + "/{conferenceId}/assignments", conferenceId)
+                        .with(csrf().asHeader())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json(responseBody, true)
+                );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    void should403WhenAssignReviewersIsCalledByUserWithoutPCChairRole() throws Exception {
+        String requestBody = """
+                [
+                    { "paperId": 1, "userId": 2 }
+                ]
+                """;
+
+        this.mockMvc.perform(post(CONFERENCE_PATH + "/{conferenceId}/assignments", UUID.randomUUID())
+                        .with(csrf().asHeader())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(this.conferenceService);
+    }
+
+    //autoAssignReviewers()
+    @Test
+    @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
+    void should200WithTheAssignmentsOnAutomaticReviewerAssignment() throws Exception {
+        UUID conferenceId = UUID.randomUUID();
+        String responseBody = """
+                {
+                    "assignments": [
+                        { "paperId": 1, "userId": 2 }
+                    ],
+                    "incompletePaperIds": [1]
+                }
+                """;
+        when(this.conferenceService.autoAssignReviewers(eq(conferenceId), eq(5), any(SecurityUser.class)))
+                .thenReturn(new ReviewerAutoAssignmentDTO(List.of(new ReviewerAssignment(1L, 2L)), List.of(1L)));
+
+        this.mockMvc.perform(post(CONFERENCE_PATH + "/{conferenceId}/assignments/auto", conferenceId)
+                        .with(csrf().asHeader())
+                        .param("maxPapersPerReviewer", "5"))
+                .andExpectAll(
+                        status().isOk(),
+                        content().json(responseBody, true)
+                );
+    }
+
     //updatePaperApprovalStatus()
     @Test
     @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
@@ -1647,6 +1740,8 @@ class ConferenceControllerTest {
                 }
                 """;
 
+        when(this.conferenceService.findConferenceETag(any(UUID.class), any(SecurityContext.class)))
+                .thenReturn("0-public");
         when(this.conferenceService.findConferenceById(any(UUID.class), any(SecurityContext.class)))
                 .thenReturn(getConferenceDTO());
 
@@ -1654,10 +1749,24 @@ class ConferenceControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"0-public\""),
                         content().json(responseBody)
                 );
     }
 
+    @Test
+    void should304WhenETagMatchesOnFindConferenceById() throws Exception {
+        when(this.conferenceService.findConferenceETag(any(UUID.class), any(SecurityContext.class)))
+                .thenReturn("0-public");
+
+        this.mockMvc.perform(get(CONFERENCE_PATH + "/{id}", UUID.fromString("d2a57950-aab4-4d27-8c53-69ad397229af"))
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0-public\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        verify(this.conferenceService, times(0)).findConferenceById(any(), any());
+    }
+
     @Test
     void should404WhenConferenceIsNotFoundOnFindConferenceById() throws Exception {
         String responseBody = """
@@ -1691,8 +1800,8 @@ class ConferenceControllerTest {
                 ]
                 """;
 
-        when(this.conferenceService.findConferences(any(String.class), any(String.class), any(SecurityContext.class)))
-                .thenReturn(List.of(getConferenceDTO()));
+        when(this.conferenceService.findConferences(any(String.class), any(String.class), isNull(), eq(20),
+                any(SecurityContext.class))).thenReturn(new ConferencePage(List.of(getConferenceDTO()), null));
 
         this.mockMvc.perform(get(CONFERENCE_PATH)
                         .accept(MediaType.APPLICATION_JSON))
@@ -1708,8 +1817,8 @@ class ConferenceControllerTest {
                     []
                 """;
 
-        when(this.conferenceService.findConferences(any(String.class), any(String.class), any(SecurityContext.class)))
-                .thenReturn(Collections.emptyList());
+        when(this.conferenceService.findConferences(any(String.class), any(String.class), isNull(), eq(20),
+                any(SecurityContext.class))).thenReturn(new ConferencePage(Collections.emptyList(), null));
 
         this.mockMvc.perform(get(CONFERENCE_PATH)
                         .accept(MediaType.APPLICATION_JSON))
@@ -1719,6 +1828,93 @@ class ConferenceControllerTest {
                 );
     }
 
+    @Test
+    void shouldReturnLinkToNextPageWhenThereAreMoreConferencesOnFindConferences() throws Exception {
+        when(this.conferenceService.findConferences(eq("conf"), any(String.class), isNull(), eq(1),
+                any(SecurityContext.class))).thenReturn(new ConferencePage(List.of(getConferenceDTO()), "bmFtZQ"));
+
+        this.mockMvc.perform(get(CONFERENCE_PATH + "?name=conf&limit=1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.LINK, containsString("cursor=bmFtZQ>; rel=\"next\""))
+                );
+    }
+
+    //downloadPapersArchive()
+    @Test
+    @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
+    void should200WhenPapersArchiveIsDownloaded() throws Exception {
+        UUID conferenceId = UUID.randomUUID();
+        List<ArchiveEntry> entries = List.of(new ArchiveEntry("1_test.pdf", "sha256", ".pdf", null));
+        byte[] archive = {80, 75, 5, 6};
+
+        when(this.conferenceService.findPaperArchiveEntries(eq(conferenceId), any(SecurityUser.class)))
+                .thenReturn(entries);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(archive);
+
+            return null;
+        }).when(this.fileService).writeArchive(eq(entries), any(OutputStream.class));
+
+        MvcResult mvcResult = this.mockMvc.perform(get(CONFERENCE_PATH + "/{id}/papers/archive", conferenceId)
+                        .accept("application/zip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentType("application/zip"),
+                        header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(archive);
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
+    void should403WhenRequestingUserIsNotConferencePCChairOnDownloadPapersArchive() throws Exception {
+        UUID conferenceId = UUID.randomUUID();
+        String responseBody = """
+                {
+                    "message": "Access denied"
+                }
+                """;
+
+        when(this.conferenceService.findPaperArchiveEntries(eq(conferenceId), any(SecurityUser.class)))
+                .thenThrow(new AccessDeniedException("Access denied"));
+
+        this.mockMvc.perform(get(CONFERENCE_PATH + "/{id}/papers/archive", conferenceId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isForbidden(),
+                        content().json(responseBody)
+                );
+
+        verifyNoInteractions(fileService);
+    }
+
+    @Test
+    void should401WhenDownloadPapersArchiveIsCalledByUnauthenticatedUser() throws Exception {
+        UUID conferenceId = UUID.randomUUID();
+        String responseBody = """
+                {
+                    "message": "Unauthorized"
+                }
+                """;
+
+        this.mockMvc.perform(get(CONFERENCE_PATH + "/{id}/papers/archive", conferenceId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isUnauthorized(),
+                        content().json(responseBody)
+                );
+
+        verifyNoInteractions(conferenceService);
+    }
+
     @Test
     @WithMockCustomUser(roles = "ROLE_PC_CHAIR")
     void should204WhenConferenceIsDeletedSuccessfully() throws Exception {
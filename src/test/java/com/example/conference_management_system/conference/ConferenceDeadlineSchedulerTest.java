@@ -0,0 +1,88 @@
+package com.example.conference_management_system.conference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.example.conference_management_system.entity.Conference;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConferenceDeadlineSchedulerTest {
+    @Mock
+    private ConferenceRepository conferenceRepository;
+    @Mock
+    private ConferenceService conferenceService;
+    @Mock
+    private ConferenceTransitionLock transitionLock;
+    private ConferenceDeadlineScheduler underTest;
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new ConferenceDeadlineScheduler(conferenceRepository, conferenceService, transitionLock, 2);
+    }
+
+    //applyDueTransitions()
+    @Test
+    void shouldNotAdvanceConferenceLockedByAnotherNode() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+
+        when(this.conferenceRepository.findIdsWithDeadlineBefore(anyList(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(conferenceId));
+        when(this.transitionLock.runIfAcquired(eq(conferenceId), any(Runnable.class))).thenReturn(false);
+
+        //Act
+        this.underTest.applyDueTransitions();
+
+        //Assert
+        verify(this.conferenceService, never()).advanceByDeadline(any(UUID.class), any(Instant.class));
+    }
+
+    /*
+        The batches are full and one of their conferences fails, the scheduler continues with the rest and queries the
+        next batch until one is not full
+     */
+    @Test
+    void shouldContinueWithTheNextConferencesWhenATransitionFails() {
+        //Arrange
+        UUID failing = UUID.randomUUID();
+        UUID advanced = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+
+        when(this.conferenceRepository.findIdsWithDeadlineBefore(anyList(), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(failing, advanced), List.of(failing, last), List.of());
+        when(this.transitionLock.runIfAcquired(any(UUID.class), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(this.conferenceService.advanceByDeadline(eq(failing), any(Instant.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Conference.class, failing));
+        when(this.conferenceService.advanceByDeadline(eq(advanced), any(Instant.class))).thenReturn(true);
+        when(this.conferenceService.advanceByDeadline(eq(last), any(Instant.class))).thenReturn(true);
+
+        //Act
+        this.underTest.applyDueTransitions();
+
+        //Assert
+        verify(this.conferenceService).advanceByDeadline(eq(advanced), any(Instant.class));
+        verify(this.conferenceService).advanceByDeadline(eq(last), any(Instant.class));
+        verify(this.conferenceRepository, times(3))
+                .findIdsWithDeadlineBefore(anyList(), any(Instant.class), any(Pageable.class));
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.conference_management_system.conference;
 
 import com.example.conference_management_system.AbstractRepositoryTest;
+import com.example.conference_management_system.conference.dto.ConferenceDTO;
+import com.example.conference_management_system.conference.dto.ConferenceUserProjection;
 import com.example.conference_management_system.entity.Conference;
+import com.example.conference_management_system.entity.ConferenceUser;
+import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.entity.key.ConferenceUserId;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ConferenceRepositoryTest extends AbstractRepositoryTest {
     @Autowired
     private ConferenceRepository underTest;
+    @Autowired
+    private TestEntityManager entityManager;
 
     @Test
     void shouldReturnTrueWhenSearchingForAConferenceThatExistsWithGivenNameIgnoringCase() {
@@ -28,6 +39,50 @@ class ConferenceRepositoryTest extends AbstractRepositoryTest {
         assertThat(this.underTest.existsByNameIgnoringCase("test")).isFalse();
     }
 
+    @Test
+    void shouldFindConferenceDTOsMatchingName() {
+        Conference conference = getConference();
+        this.underTest.saveAll(List.of(conference, new Conference("other", "description")));
+
+        List<ConferenceDTO> actual = this.underTest.findConferenceDTOs("confer", "", "", PageRequest.ofSize(20));
+
+        assertThat(actual).extracting(ConferenceDTO::getId).containsExactly(conference.getId());
+        assertThat(actual.get(0).getUsers()).isEmpty();
+    }
+
+    @Test
+    void shouldFindConferenceDTOsAfterCursorOrderedByName() {
+        this.underTest.saveAll(List.of(
+                new Conference("c", "description"),
+                new Conference("a", "description"),
+                new Conference("b", "description")));
+
+        List<ConferenceDTO> actual = this.underTest.findConferenceDTOs("", "", "a", PageRequest.ofSize(1));
+
+        assertThat(actual).extracting(ConferenceDTO::getName).containsExactly("b");
+    }
+
+    @Test
+    void shouldFindConferenceUserProjectionsForGivenConferences() {
+        User user = this.entityManager.persist(new User("username", "password", "Full Name"));
+        Conference conference = this.underTest.save(getConference());
+        this.entityManager.persist(new ConferenceUser(
+                new ConferenceUserId(conference.getId(), user.getId()),
+                conference,
+                user));
+        this.entityManager.flush();
+
+        List<ConferenceUserProjection> actual = this.underTest.findConferenceUserProjections(
+                List.of(conference.getId()));
+
+        assertThat(actual).containsExactly(new ConferenceUserProjection(
+                conference.getId(),
+                user.getId(),
+                "username",
+                "Full Name",
+                null));
+    }
+
     private Conference getConference() {
         Conference conference = new Conference();
         conference.setName("conference");
@@ -2,11 +2,21 @@ package com.example.conference_management_system.conference;
 
 import com.example.conference_management_system.auth.AuthService;
 import com.example.conference_management_system.conference.dto.ConferenceCreateRequest;
+import com.example.conference_management_system.conference.dto.ConferenceDeadlines;
+import com.example.conference_management_system.conference.dto.ConferencePage;
+import com.example.conference_management_system.conference.dto.KeywordsProjection;
+import com.example.conference_management_system.conference.dto.PCChairConferenceDTO;
+import com.example.conference_management_system.content.ContentRepository;
 import com.example.conference_management_system.conference.dto.ConferenceUpdateRequest;
 import com.example.conference_management_system.conference.dto.PCChairAdditionRequest;
 import com.example.conference_management_system.conference.dto.PaperSubmissionRequest;
+import com.example.conference_management_system.conference.dto.PaperUserProjection;
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+import com.example.conference_management_system.conference.dto.ReviewerAssignmentResult;
+import com.example.conference_management_system.conference.dto.ReviewerAutoAssignmentDTO;
 import com.example.conference_management_system.entity.Conference;
 import com.example.conference_management_system.entity.ConferenceUser;
+import com.example.conference_management_system.entity.Content;
 import com.example.conference_management_system.entity.Paper;
 import com.example.conference_management_system.entity.PaperUser;
 import com.example.conference_management_system.entity.Role;
@@ -19,6 +29,9 @@ import com.example.conference_management_system.paper.PaperUserRepository;
 import com.example.conference_management_system.exception.DuplicateResourceException;
 import com.example.conference_management_system.exception.ResourceNotFoundException;
 import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.file.ArchiveEntry;
+import com.example.conference_management_system.outbox.OutboxEventType;
+import com.example.conference_management_system.outbox.OutboxService;
 import com.example.conference_management_system.review.ReviewDecision;
 import com.example.conference_management_system.role.RoleService;
 import com.example.conference_management_system.role.RoleType;
@@ -34,18 +47,29 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -66,6 +90,12 @@ class ConferenceServiceTest {
     private RoleService roleService;
     @Mock
     private AuthService authService;
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private ReviewerAssignmentRepository reviewerAssignmentRepository;
+    @Mock
+    private OutboxService outboxService;
     private ConferenceService underTest;
 
     @BeforeEach
@@ -77,7 +107,10 @@ class ConferenceServiceTest {
                 userService,
                 paperService,
                 roleService,
-                authService
+                authService,
+                contentRepository,
+                reviewerAssignmentRepository,
+                outboxService
         );
     }
 
@@ -506,7 +539,7 @@ class ConferenceServiceTest {
         UUID conferenceId = UUID.randomUUID();
         SecurityUser securityUser = getSecurityUser();
 
-        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsersAndPapers(conferenceId))
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
                 .thenReturn(Optional.empty());
 
         //Act & Assert
@@ -522,7 +555,7 @@ class ConferenceServiceTest {
         SecurityUser securityUser = getSecurityUser();
         Conference conference = getConference(conferenceId);
 
-        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsersAndPapers(conferenceId))
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
                 .thenReturn(Optional.of(conference));
 
         //Act & Assert
@@ -541,7 +574,7 @@ class ConferenceServiceTest {
         ConferenceUser conferenceUser = getConferenceUser(conference, securityUser.user());
         conference.setConferenceUsers(Set.of(conferenceUser));
 
-        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsersAndPapers(conferenceId))
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
                 .thenReturn(Optional.of(conference));
 
         //Act & Assert
@@ -551,6 +584,126 @@ class ConferenceServiceTest {
                         "be accepted nor rejected");
     }
 
+    @Test
+    void shouldAcceptApprovedAndRemoveRejectedPapersOnStartFinal() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+
+        Conference conference = getConference(conferenceId);
+        conference.setState(ConferenceState.DECISION);
+        ConferenceUser conferenceUser = getConferenceUser(conference, securityUser.user());
+        conference.setConferenceUsers(Set.of(conferenceUser));
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+
+        //Act
+        this.underTest.startFinal(conferenceId, securityUser);
+
+        //Assert
+        assertThat(conference.getState()).isEqualTo(ConferenceState.FINAL);
+        verify(this.conferenceRepository).save(conference);
+        verify(this.paperService).updateStateByConferenceId(conferenceId, PaperState.APPROVED, PaperState.ACCEPTED);
+        verify(this.paperService).updateStateAndRemoveConferenceByConferenceId(conferenceId, PaperState.REJECTED,
+                PaperState.CREATED);
+        verify(this.outboxService).append(OutboxEventType.CONFERENCE_FINALIZED, conferenceId, Map.of(
+                "conferenceId", conferenceId,
+                "accepted", 0,
+                "rejected", 0));
+    }
+
+    //updateDeadlines()
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenDeadlinesAreNotInTheOrderOfThePhases() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+        conference.setConferenceUsers(Set.of(getConferenceUser(conference, securityUser.user())));
+        Instant now = Instant.now();
+        ConferenceDeadlines deadlines = new ConferenceDeadlines(
+                now,
+                null,
+                now.plus(Duration.ofDays(10)),
+                now.plus(Duration.ofDays(5)),
+                null);
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.updateDeadlines(conferenceId, deadlines, securityUser))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The deadlines must follow the order of the phases");
+    }
+
+    //advanceByDeadline()
+    @Test
+    void shouldMoveConferenceToNextStateWhenItsDeadlinePassed() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        Conference conference = getConference(conferenceId);
+        Instant now = Instant.now();
+        conference.setState(ConferenceState.SUBMISSION);
+        conference.setDeadlines(null, now.minusSeconds(60), now.plus(Duration.ofDays(7)), null, null);
+
+        when(this.conferenceRepository.findById(conferenceId)).thenReturn(Optional.of(conference));
+
+        //Act
+        boolean actual = this.underTest.advanceByDeadline(conferenceId, now);
+
+        //Assert
+        assertThat(actual).isTrue();
+        assertThat(conference.getState()).isEqualTo(ConferenceState.ASSIGNMENT);
+        assertThat(conference.getNextDeadline()).isEqualTo(now.plus(Duration.ofDays(7)));
+        verify(this.conferenceRepository).save(conference);
+        verifyNoInteractions(this.paperService);
+    }
+
+    @Test
+    void shouldNotMoveConferenceWhenItsDeadlineChangedSinceTheQuery() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        Conference conference = getConference(conferenceId);
+        Instant now = Instant.now();
+        conference.setState(ConferenceState.REVIEW);
+        conference.setDeadlines(null, null, null, now.plus(Duration.ofDays(1)), null);
+
+        when(this.conferenceRepository.findById(conferenceId)).thenReturn(Optional.of(conference));
+
+        //Act
+        boolean actual = this.underTest.advanceByDeadline(conferenceId, now);
+
+        //Assert
+        assertThat(actual).isFalse();
+        assertThat(conference.getState()).isEqualTo(ConferenceState.REVIEW);
+        verify(this.conferenceRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldAcceptAndRejectPapersWhenConferenceMovesToFinalByDeadline() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        Conference conference = getConference(conferenceId);
+        Instant now = Instant.now();
+        conference.setState(ConferenceState.DECISION);
+        conference.setDeadlines(null, null, null, null, now);
+
+        when(this.conferenceRepository.findById(conferenceId)).thenReturn(Optional.of(conference));
+
+        //Act
+        boolean actual = this.underTest.advanceByDeadline(conferenceId, now);
+
+        //Assert
+        assertThat(actual).isTrue();
+        assertThat(conference.getState()).isEqualTo(ConferenceState.FINAL);
+        assertThat(conference.getNextDeadline()).isNull();
+        verify(this.paperService).updateStateByConferenceId(conferenceId, PaperState.APPROVED, PaperState.ACCEPTED);
+        verify(this.paperService).updateStateAndRemoveConferenceByConferenceId(conferenceId, PaperState.REJECTED,
+                PaperState.CREATED);
+    }
+
     //addPCChair()
     @Test
     void shouldThrowResourceNotFoundExceptionWhenConferenceIsNotFoundOnAddPCChair() {
@@ -996,6 +1149,182 @@ class ConferenceServiceTest {
                 .hasMessage("Paper has the maximum number of reviewers");
     }
 
+    //assignReviewers()
+    @ParameterizedTest
+    @NullAndEmptySource
+    void shouldThrowIllegalArgumentExceptionWhenAssignmentsAreNullOrEmpty(List<ReviewerAssignment> assignments) {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.assignReviewers(conferenceId, assignments, getSecurityUser()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("You must provide between 1 and 2000 assignments");
+
+        verifyNoInteractions(this.conferenceRepository, this.paperUserRepository);
+    }
+
+    @Test
+    void shouldThrowAccessDeniedExceptionWhenRequestingUserIsNotConferencePCChairOnReviewersAssignment() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        Conference conference = getConference(conferenceId);
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.assignReviewers(conferenceId,
+                List.of(new ReviewerAssignment(1L, 2L)), getSecurityUser()))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Access denied");
+
+        verifyNoInteractions(this.paperService, this.paperUserRepository);
+    }
+
+    @Test
+    void shouldAssignValidReviewersAndReportTheRestOnReviewersAssignment() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+        conference.setState(ConferenceState.ASSIGNMENT);
+        conference.setConferenceUsers(Set.of(getConferenceUser(conference, securityUser.user())));
+
+        User author = getUser(2L, Set.of(new Role(RoleType.ROLE_AUTHOR)));
+        User reviewer = getUser(3L, Set.of(new Role(RoleType.ROLE_REVIEWER)));
+        Paper paper = getPaper(10L);
+        paper.setState(PaperState.SUBMITTED);
+        paper.setPaperUsers(Set.of(getPaperUser(paper, author, RoleType.ROLE_AUTHOR),
+                getPaperUser(paper, reviewer, RoleType.ROLE_REVIEWER)));
+        List<ReviewerAssignment> assignments = List.of(
+                new ReviewerAssignment(10L, 4L),
+                new ReviewerAssignment(10L, 5L),
+                new ReviewerAssignment(10L, 3L),
+                new ReviewerAssignment(10L, 2L),
+                new ReviewerAssignment(10L, 6L),
+                new ReviewerAssignment(11L, 4L),
+                new ReviewerAssignment(null, 4L));
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+        when(this.paperService.findByConferenceIdAndPaperIdsFetchingPaperUsers(conferenceId, Set.of(10L, 11L)))
+                .thenReturn(List.of(paper));
+        when(this.userService.findUserIdsWithRole(Set.of(2L, 3L, 4L, 5L, 6L), RoleType.ROLE_REVIEWER))
+                .thenReturn(Set.of(3L, 4L, 5L));
+        when(this.paperUserRepository.insertAll(any())).thenReturn(Set.of(new PaperUserId(10L, 4L)));
+
+        //Act
+        List<ReviewerAssignmentResult> results = this.underTest.assignReviewers(conferenceId, assignments,
+                securityUser);
+
+        //Assert
+        assertThat(results).extracting(ReviewerAssignmentResult::assigned)
+                .containsExactly(true, false, false, false, false, false, false);
+        assertThat(results).extracting(ReviewerAssignmentResult::message).containsExactly(
+                null,
+                "Paper has the maximum number of reviewers",
+                "User already assigned as reviewer to paper with id: 10",
+                "User with id: 2 is author of the paper and can not be assigned as a reviewer",
+                "User is not a reviewer with id: 6",
+                "Paper with id: 11 is not submitted to conference with id: " + conferenceId,
+                "You must provide the id of the paper and the id of the user");
+
+        verify(this.paperUserRepository).insertAll(List.of(getPaperUser(
+                paper,
+                getUser(4L, Set.of(new Role(RoleType.ROLE_REVIEWER))),
+                RoleType.ROLE_REVIEWER)));
+    }
+
+    @Test
+    void shouldReportReviewersAssignedConcurrentlyAsAlreadyAssignedOnReviewersAssignment() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+        conference.setState(ConferenceState.ASSIGNMENT);
+        conference.setConferenceUsers(Set.of(getConferenceUser(conference, securityUser.user())));
+
+        Paper paper = getPaper(10L);
+        paper.setState(PaperState.SUBMITTED);
+        paper.setPaperUsers(new HashSet<>());
+        List<ReviewerAssignment> assignments = List.of(
+                new ReviewerAssignment(10L, 3L),
+                new ReviewerAssignment(10L, 4L));
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+        when(this.paperService.findByConferenceIdAndPaperIdsFetchingPaperUsers(conferenceId, Set.of(10L)))
+                .thenReturn(List.of(paper));
+        when(this.userService.findUserIdsWithRole(Set.of(3L, 4L), RoleType.ROLE_REVIEWER))
+                .thenReturn(Set.of(3L, 4L));
+        when(this.paperUserRepository.insertAll(any())).thenReturn(Set.of(new PaperUserId(10L, 3L)));
+
+        //Act
+        List<ReviewerAssignmentResult> results = this.underTest.assignReviewers(conferenceId, assignments,
+                securityUser);
+
+        //Assert
+        assertThat(results).extracting(ReviewerAssignmentResult::assigned).containsExactly(true, false);
+        assertThat(results).extracting(ReviewerAssignmentResult::message).containsExactly(
+                null,
+                "User already assigned as reviewer to paper with id: 10");
+    }
+
+    //autoAssignReviewers()
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenMaxPapersPerReviewerIsNotPositive() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.autoAssignReviewers(conferenceId, 0, getSecurityUser()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maximum papers per reviewer must be a positive number");
+
+        verifyNoInteractions(this.conferenceRepository, this.reviewerAssignmentRepository);
+    }
+
+    @Test
+    void shouldAssignReviewersToSubmittedPapersAndReportIncompletePapers() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+        conference.setState(ConferenceState.ASSIGNMENT);
+        conference.setConferenceUsers(Set.of(getConferenceUser(conference, securityUser.user())));
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+        when(this.reviewerAssignmentRepository.findPaperUsers(conferenceId)).thenReturn(List.of(
+                new PaperUserProjection(10L, 2L, RoleType.ROLE_AUTHOR),
+                new PaperUserProjection(11L, 4L, RoleType.ROLE_AUTHOR)));
+        when(this.reviewerAssignmentRepository.findReviewedKeywords(RoleType.ROLE_REVIEWER)).thenReturn(List.of(
+                new KeywordsProjection(3L, "Java, Spring")));
+        when(this.reviewerAssignmentRepository.findPaperKeywords(conferenceId, PaperState.SUBMITTED))
+                .thenReturn(List.of(
+                        new KeywordsProjection(10L, "java,databases"),
+                        new KeywordsProjection(11L, "cooking")));
+        when(this.reviewerAssignmentRepository.findUserIdsByRoleType(RoleType.ROLE_REVIEWER))
+                .thenReturn(List.of(3L, 4L));
+        when(this.paperUserRepository.insertAll(any())).thenReturn(Set.of(
+                new PaperUserId(10L, 3L),
+                new PaperUserId(10L, 4L),
+                new PaperUserId(11L, 3L)));
+
+        //Act
+        ReviewerAutoAssignmentDTO actual = this.underTest.autoAssignReviewers(conferenceId, null, securityUser);
+
+        //Assert
+        assertThat(actual.assignments()).containsExactlyInAnyOrder(
+                new ReviewerAssignment(10L, 3L),
+                new ReviewerAssignment(10L, 4L),
+                new ReviewerAssignment(11L, 3L));
+        assertThat(actual.incompletePaperIds()).containsExactly(11L);
+
+        verify(this.paperUserRepository).insertAll(argThat(paperUsers -> paperUsers.size() == 3));
+    }
+
     //updatePaperApprovalStatus()
     @Test
     void shouldThrowResourceNotFoundExceptionWhenConferenceIsNotFoundOnUpdatePaperApprovalStatus() {
@@ -1140,6 +1469,48 @@ class ConferenceServiceTest {
                 .hasMessage("Paper is in state: " + paper.getState() + " and can not get either approved or rejected");
     }
 
+    //findConferences()
+    @Test
+    void shouldFetchPapersOnlyForConferencesWhereUserIsPCChairOnFindConferences() {
+        //Arrange
+        SecurityUser securityUser = getSecurityUser();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new TestingAuthenticationToken(securityUser, null));
+
+        Conference chaired = getConference(UUID.randomUUID());
+        chaired.setConferenceUsers(Set.of(getConferenceUser(chaired, securityUser.user())));
+        chaired.setPapers(new HashSet<>());
+        Conference other = getConference(UUID.randomUUID());
+        other.setName("other");
+        Conference next = getConference(UUID.randomUUID());
+        next.setName("zzz");
+
+        when(this.conferenceRepository.<Conference, List<Conference>>findBy(any(ConferenceSpecs.class), any()))
+                .thenReturn(List.of(chaired, other, next));
+
+        //Act
+        ConferencePage actual = this.underTest.findConferences("", "", null, 2, context);
+
+        //Assert
+        assertThat(actual.conferences()).hasSize(2);
+        assertThat(actual.conferences().get(0)).isInstanceOf(PCChairConferenceDTO.class);
+        assertThat(actual.conferences().get(1)).isNotInstanceOf(PCChairConferenceDTO.class);
+        assertThat(ConferenceCursor.decode(actual.next()).name()).isEqualTo("other");
+        verify(this.conferenceRepository).fetchConferenceUsersForConferences(List.of(chaired, other));
+        verify(this.conferenceRepository).fetchPapersForConferences(List.of(chaired));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenLimitIsInvalidOnFindConferences() {
+        //Arrange
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.findConferences("", "", null, 0, context))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and 100");
+    }
+
     //findConferenceById()
     @Test
     void shouldThrowResourceNotFoundExceptionWhenConferenceIsNotFoundOnFindConferenceById() {
@@ -1204,6 +1575,54 @@ class ConferenceServiceTest {
                 .hasMessage("Conference is in the state: " + conference.getState() + " and can not be deleted");
     }
 
+    //findPaperArchiveEntries()
+    @Test
+    void shouldFindPaperArchiveEntriesNamedByPaperIdAndFileNameWithoutDirectories() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+        conference.setConferenceUsers(Set.of(getConferenceUser(conference, securityUser.user())));
+
+        Content content = new Content("../../etc/test.tex", "sha256.gz", ".tex");
+        content.setId(1L);
+        content.setEncoding("gzip");
+        Content otherContent = new Content("C:\\papers\\test.tex", "sha256.gz", ".tex");
+        otherContent.setId(2L);
+        otherContent.setEncoding("gzip");
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+        when(this.contentRepository.findByConferenceIdFetchingPaper(conferenceId))
+                .thenReturn(List.of(content, otherContent));
+
+        //Act
+        List<ArchiveEntry> actual = this.underTest.findPaperArchiveEntries(conferenceId, securityUser);
+
+        //Assert
+        assertThat(actual).containsExactly(
+                new ArchiveEntry("1_test.tex", "sha256.gz", ".tex", "gzip"),
+                new ArchiveEntry("2_test.tex", "sha256.gz", ".tex", "gzip"));
+    }
+
+    @Test
+    void shouldThrowAccessDeniedExceptionWhenRequestingUserIsNotConferencePCChairOnFindPaperArchiveEntries() {
+        //Arrange
+        UUID conferenceId = UUID.randomUUID();
+        SecurityUser securityUser = getSecurityUser();
+        Conference conference = getConference(conferenceId);
+
+        when(this.conferenceRepository.findByConferenceIdFetchingConferenceUsers(conferenceId))
+                .thenReturn(Optional.of(conference));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.findPaperArchiveEntries(conferenceId, securityUser))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Access denied");
+
+        verifyNoInteractions(this.contentRepository);
+    }
+
     private SecurityUser getSecurityUser() {
         User user = new User("username", "password", "Full Name", Set.of(new Role(RoleType.ROLE_PC_CHAIR)));
         user.setId(1L);
@@ -0,0 +1,55 @@
+package com.example.conference_management_system.conference;
+
+import com.example.conference_management_system.AbstractRepositoryTest;
+import com.example.conference_management_system.conference.dto.KeywordsProjection;
+import com.example.conference_management_system.entity.Paper;
+import com.example.conference_management_system.entity.Review;
+import com.example.conference_management_system.entity.Role;
+import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.role.RoleRepository;
+import com.example.conference_management_system.role.RoleType;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewerAssignmentRepositoryTest extends AbstractRepositoryTest {
+    @Autowired
+    private ReviewerAssignmentRepository underTest;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    //findReviewedKeywords()
+    @Test
+    void shouldAggregateTheReviewedKeywordsPerReviewer() {
+        //Arrange
+        Role reviewerRole = this.roleRepository.findByType(RoleType.ROLE_REVIEWER).orElseThrow();
+        Role authorRole = this.roleRepository.findByType(RoleType.ROLE_AUTHOR).orElseThrow();
+        User reviewer = this.entityManager.persist(new User("reviewer", "password", "Full Name",
+                Set.of(reviewerRole)));
+        User author = this.entityManager.persist(new User("author", "password", "Full Name", Set.of(authorRole)));
+        this.entityManager.persist(new User("idle", "password", "Full Name", Set.of(reviewerRole)));
+        Paper paper = this.entityManager.persist(new Paper("title 1", "abstractText", "Full Name", "java,spring"));
+        Paper another = this.entityManager.persist(new Paper("title 2", "abstractText", "Full Name", "databases"));
+        Paper same = this.entityManager.persist(new Paper("title 3", "abstractText", "Full Name", "databases"));
+        this.entityManager.persist(new Review(paper, reviewer, "comment", 5.0));
+        this.entityManager.persist(new Review(another, reviewer, "comment", 5.0));
+        this.entityManager.persist(new Review(same, reviewer, "comment", 5.0));
+        this.entityManager.persist(new Review(paper, author, "comment", 5.0));
+        this.entityManager.flush();
+
+        //Act
+        List<KeywordsProjection> actual = this.underTest.findReviewedKeywords(RoleType.ROLE_REVIEWER);
+
+        //Assert
+        assertThat(actual).extracting(KeywordsProjection::id).containsExactly(reviewer.getId());
+        assertThat(actual.get(0).keywords().split(",")).containsExactlyInAnyOrder("java", "spring", "databases");
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.conference_management_system.conference;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.conference_management_system.conference.dto.ReviewerAssignment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ReviewerAssignmentSolverTest {
+
+    //solve()
+    @Test
+    void shouldNotAssignAuthorsOrCurrentReviewersOfThePaper() {
+        //Arrange
+        List<ReviewerAssignmentSolver.PaperInput> papers = List.of(
+                new ReviewerAssignmentSolver.PaperInput(1L, Set.of("java"), Set.of(10L), Set.of(11L)));
+        List<ReviewerAssignmentSolver.ReviewerInput> reviewers = List.of(
+                new ReviewerAssignmentSolver.ReviewerInput(10L, Set.of("java"), 0),
+                new ReviewerAssignmentSolver.ReviewerInput(11L, Set.of("java"), 1),
+                new ReviewerAssignmentSolver.ReviewerInput(12L, Set.of(), 0));
+
+        //Act
+        List<ReviewerAssignment> actual = new ReviewerAssignmentSolver(2, 5).solve(papers, reviewers);
+
+        //Assert
+        assertThat(actual).containsExactly(new ReviewerAssignment(1L, 12L));
+    }
+
+    @Test
+    void shouldNotExceedTheLoadCapOfTheReviewers() {
+        //Arrange
+        List<ReviewerAssignmentSolver.PaperInput> papers = List.of(
+                new ReviewerAssignmentSolver.PaperInput(1L, Set.of(), Set.of(), Set.of()),
+                new ReviewerAssignmentSolver.PaperInput(2L, Set.of(), Set.of(), Set.of()),
+                new ReviewerAssignmentSolver.PaperInput(3L, Set.of(), Set.of(), Set.of()));
+        List<ReviewerAssignmentSolver.ReviewerInput> reviewers = List.of(
+                new ReviewerAssignmentSolver.ReviewerInput(10L, Set.of(), 1),
+                new ReviewerAssignmentSolver.ReviewerInput(11L, Set.of(), 0));
+
+        //Act
+        List<ReviewerAssignment> actual = new ReviewerAssignmentSolver(2, 2).solve(papers, reviewers);
+
+        //Assert
+        assertThat(actual).hasSize(3);
+        assertThat(actual).filteredOn(assignment -> assignment.userId().equals(10L)).hasSize(1);
+        assertThat(actual).filteredOn(assignment -> assignment.userId().equals(11L)).hasSize(2);
+    }
+
+    /*
+        Assigning paper 1 first would give it reviewer 10, with whom it has as much in common as with 11, and leave
+        paper 2 with reviewer 11 who only matches one of its keywords
+     */
+    @Test
+    void shouldAssignTheReviewersWithTheMostKeywordsInCommonOverall() {
+        //Arrange
+        List<ReviewerAssignmentSolver.PaperInput> papers = List.of(
+                new ReviewerAssignmentSolver.PaperInput(1L, Set.of("java"), Set.of(), Set.of()),
+                new ReviewerAssignmentSolver.PaperInput(2L, Set.of("java", "jvm"), Set.of(), Set.of()));
+        List<ReviewerAssignmentSolver.ReviewerInput> reviewers = List.of(
+                new ReviewerAssignmentSolver.ReviewerInput(10L, Set.of("java", "jvm"), 0),
+                new ReviewerAssignmentSolver.ReviewerInput(11L, Set.of("java"), 0));
+
+        //Act
+        List<ReviewerAssignment> actual = new ReviewerAssignmentSolver(1, 1).solve(papers, reviewers);
+
+        //Assert
+        assertThat(actual).containsExactlyInAnyOrder(
+                new ReviewerAssignment(1L, 11L),
+                new ReviewerAssignment(2L, 10L));
+    }
+
+    /*
+        Benchmark for the size of a large conference, 5,000 papers and 1,000 reviewers with an even load cap of 10.
+        The keywords follow a skewed distribution, a few popular keywords are shared by most papers and reviewers.
+        Excluded from the default test run(see the surefire configuration in pom.xml).
+     */
+    @Test
+    @Tag("benchmark")
+    void shouldAssignFiveThousandPapersToOneThousandReviewersWithinSeconds() {
+        //Arrange
+        Random random = new Random(42);
+        List<ReviewerAssignmentSolver.ReviewerInput> reviewers = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            reviewers.add(new ReviewerAssignmentSolver.ReviewerInput(id, keywords(random, 15), 0));
+        }
+        List<ReviewerAssignmentSolver.PaperInput> papers = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            papers.add(new ReviewerAssignmentSolver.PaperInput(
+                    id,
+                    keywords(random, 5),
+                    Set.of((long) random.nextInt(1_000) + 1),
+                    Set.of()));
+        }
+
+        //Act
+        List<ReviewerAssignment> actual = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> new ReviewerAssignmentSolver(2, 10).solve(papers, reviewers));
+
+        //Assert
+        Map<Long, Integer> loads = new HashMap<>();
+        Set<ReviewerAssignment> distinct = new HashSet<>(actual);
+        actual.forEach(assignment -> loads.merge(assignment.userId(), 1, Integer::sum));
+
+        assertThat(actual).hasSize(10_000);
+        assertThat(distinct).hasSize(10_000);
+        assertThat(loads.values()).allMatch(load -> load <= 10);
+        assertThat(actual).noneMatch(assignment -> papers.get((int) (assignment.paperId() - 1)).authorIds()
+                .contains(assignment.userId()));
+    }
+
+    private Set<String> keywords(Random random, int count) {
+        Set<String> keywords = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            keywords.add("keyword " + (int) Math.abs(random.nextGaussian() * 60) % 300);
+        }
+
+        return keywords;
+    }
+}
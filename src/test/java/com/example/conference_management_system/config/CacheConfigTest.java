@@ -0,0 +1,39 @@
+package com.example.conference_management_system.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.conference_management_system.paper.dto.PaperDTO;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConfigTest {
+
+    //papersCacheConfiguration()
+    @Test
+    void shouldReadBackPaperDTOWrittenToPapersCache() {
+        //Arrange
+        RedisCacheConfiguration cacheConfig = new CacheConfig().papersCacheConfiguration(
+                Jackson2ObjectMapperBuilder.json().build(),
+                Duration.ofMinutes(10));
+        PaperDTO expected = new PaperDTO(
+                1L,
+                LocalDate.now(),
+                "title",
+                "abstract text",
+                new String[]{"author 1", "author 2"},
+                new String[]{"keyword 1", "keyword 2"});
+
+        //Act
+        ByteBuffer value = cacheConfig.getValueSerializationPair().write(expected);
+        PaperDTO actual = (PaperDTO) cacheConfig.getValueSerializationPair().read(value);
+
+        //Assert
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.conference_management_system.content;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.conference_management_system.file.FileService;
+
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentReconcilerTest {
+    @Mock
+    private ContentRepository contentRepository;
+    @Mock
+    private ContentService contentService;
+    @Mock
+    private FileService fileService;
+    private ContentReconciler underTest;
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new ContentReconciler(contentRepository, contentService, fileService, true);
+    }
+
+    //reconcile()
+    @Test
+    void shouldDeleteOnlyUnreferencedFiles() {
+        //Arrange
+        when(this.fileService.listFileNames()).thenReturn(Stream.of("a", "c", "d", "f"));
+        when(this.contentRepository.streamGeneratedFileNames()).thenReturn(Stream.of("b", "c", "e", "f"));
+        when(this.contentService.deleteFileIfUnreferenced(any(String.class))).thenReturn(true);
+
+        //Act
+        this.underTest.reconcile();
+
+        //Assert
+        verify(this.contentService).deleteFileIfUnreferenced("a");
+        verify(this.contentService).deleteFileIfUnreferenced("d");
+        verify(this.contentService, never()).deleteFileIfUnreferenced("b");
+        verify(this.contentService, never()).deleteFileIfUnreferenced("c");
+        verify(this.contentService, never()).deleteFileIfUnreferenced("e");
+        verify(this.contentService, never()).deleteFileIfUnreferenced("f");
+    }
+
+    @Test
+    void shouldNotDeleteUnreferencedFilesWhenDeletionIsDisabled() {
+        //Arrange
+        this.underTest = new ContentReconciler(contentRepository, contentService, fileService, false);
+
+        when(this.fileService.listFileNames()).thenReturn(Stream.of("a", "b"));
+        when(this.contentRepository.streamGeneratedFileNames()).thenReturn(Stream.of("b"));
+
+        //Act
+        this.underTest.reconcile();
+
+        //Assert
+        verify(this.contentService, never()).deleteFileIfUnreferenced(any(String.class));
+    }
+}
@@ -3,16 +3,39 @@ package com.example.conference_management_system.file;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.util.ResourceUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
+
+import com.example.conference_management_system.exception.ResourceNotFoundException;
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.exception.UnsupportedFileException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class FileServiceTest {
     @TempDir
@@ -21,11 +44,14 @@ class FileServiceTest {
 
     @BeforeEach
     void setup() {
-        this.underTest = new FileService(tempDir.toString());
+        this.underTest = new FileService(
+                tempDir.toString(),
+                new LocalPaperStorage(tempDir.toString()),
+                new HotFileCache(DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), new SimpleMeterRegistry()));
     }
 
     /*
-        isFileSupported()
+        stageFile() and commitFile()
 
         In order to create files with the correct content (pdf, tex) it's not enough to set the 3rd argument of the
         MockMultipartFile as application/pdf, application/x-tex. We need the actual content of the file to be pdf,latex,
@@ -33,7 +59,7 @@ class FileServiceTest {
         create our own. The png file is to test for non-supported files
      */
     @Test
-    void shouldReturnTrueWhenFileIsSupportedForPdfFile() throws IOException {
+    void shouldStoreFileByChecksumWithExtensionAndSizeForPdfFile() throws Exception {
         //Arrange
         Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
         byte[] pdfContent = Files.readAllBytes(pdfPath);
@@ -42,13 +68,26 @@ class FileServiceTest {
                 "test.pdf",
                 "application/pdf",
                 pdfContent);
+        String expectedSha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pdfContent));
 
-        //Act & Assert
-        assertThat(this.underTest.isFileSupported(pdfFile)).isTrue();
+        //Act
+        StagedFile actual = this.underTest.stageFile(pdfFile);
+        this.underTest.commitFile(actual);
+        Path storedFile = tempDir.resolve(expectedSha256.substring(0, 2))
+                .resolve(expectedSha256.substring(2, 4))
+                .resolve(expectedSha256);
+
+        //Assert
+        assertThat(actual.fileExtension()).isEqualTo(".pdf");
+        assertThat(actual.sha256()).isEqualTo(expectedSha256);
+        assertThat(actual.size()).isEqualTo(pdfContent.length);
+        assertThat(actual.encoding()).isNull();
+        assertThat(Files.readAllBytes(storedFile)).isEqualTo(pdfContent);
+        assertThat(Files.exists(actual.path())).isFalse();
     }
 
     @Test
-    void shouldReturnTrueWhenFileIsSupportedForLatexFile() throws IOException {
+    void shouldStoreFileCompressedForLatexFile() throws IOException {
         //Arrange
         Path latexPath = ResourceUtils.getFile("src/test/resources/files/test.tex").toPath();
         byte[] latexContent = Files.readAllBytes(latexPath);
@@ -58,12 +97,51 @@ class FileServiceTest {
                 "application/x-tex",
                 latexContent);
 
-        //Act & Assert
-        assertThat(this.underTest.isFileSupported(latexFile)).isTrue();
+        //Act
+        StagedFile actual = this.underTest.stageFile(latexFile);
+        this.underTest.commitFile(actual);
+        Path storedFile = tempDir.resolve(actual.sha256().substring(0, 2))
+                .resolve(actual.sha256().substring(2, 4))
+                .resolve(actual.sha256() + ".gz");
+
+        //Assert
+        assertThat(actual.fileExtension()).isEqualTo(".tex");
+        assertThat(actual.encoding()).isEqualTo("gzip");
+        assertThat(actual.fileName()).isEqualTo(actual.sha256() + ".gz");
+        assertThat(actual.size()).isEqualTo(latexContent.length);
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(storedFile))) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(latexContent);
+        }
     }
 
     @Test
-    void shouldReturnFalseWhenFileIsNotSupported() throws IOException {
+    void shouldStoreFileOnceWhenTheSameContentIsCommittedTwice() throws IOException {
+        //Arrange
+        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
+        byte[] pdfContent = Files.readAllBytes(pdfPath);
+        MultipartFile pdfFile = new MockMultipartFile(
+                "file",
+                "test.pdf",
+                "application/pdf",
+                pdfContent);
+        MultipartFile sameFile = new MockMultipartFile(
+                "file",
+                "same.pdf",
+                "application/pdf",
+                pdfContent);
+
+        //Act
+        this.underTest.commitFile(this.underTest.stageFile(pdfFile));
+        this.underTest.commitFile(this.underTest.stageFile(sameFile));
+
+        //Assert
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldThrowUnsupportedFileExceptionAndNotStoreFileWhenFileIsNotSupported() throws IOException {
         //Arrange
         Path imagePath = ResourceUtils.getFile("src/test/resources/files/test.png").toPath();
         byte[] imageContent = Files.readAllBytes(imagePath);
@@ -74,14 +152,19 @@ class FileServiceTest {
                 imageContent);
 
         //Act & Assert
-        assertThat(this.underTest.isFileSupported(imageFile)).isFalse();
+        assertThatThrownBy(() -> this.underTest.stageFile(imageFile))
+                .isInstanceOf(UnsupportedFileException.class)
+                .hasMessage("The provided file is not supported. Make sure your file is either a pdf or a Latex one");
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
     }
 
-    //saveFile()
+    //deleteFile()
     @Test
-    void shouldSaveFile() throws IOException {
+    void shouldDeleteFile() throws IOException {
         //Arrange
-        String fileName = UUID.randomUUID().toString();
         Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
         byte[] pdfContent = Files.readAllBytes(pdfPath);
         MultipartFile pdfFile = new MockMultipartFile(
@@ -90,54 +173,196 @@ class FileServiceTest {
                 "application/pdf",
                 pdfContent);
 
+        StagedFile stagedFile = this.underTest.stageFile(pdfFile);
+        this.underTest.commitFile(stagedFile);
+        String fileName = stagedFile.sha256();
+
         //Act
-        this.underTest.saveFile(pdfFile, fileName);
-        Path storedFile = tempDir.resolve(fileName);
+        this.underTest.deleteFile(fileName);
 
         //Assert
-        assertThat(Files.exists(storedFile)).isTrue();
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
     }
 
-    //deleteFile()
+    //getFile()
     @Test
-    void shouldDeleteFile() throws IOException {
+    void shouldGetFile() throws IOException {
         //Arrange
-        String fileName = UUID.randomUUID().toString();
-        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
-        byte[] pdfContent = Files.readAllBytes(pdfPath);
+        byte[] content = getFileContent();
         MultipartFile pdfFile = new MockMultipartFile(
                 "file",
                 "test.pdf",
                 "application/pdf",
-                pdfContent);
-
-        this.underTest.saveFile(pdfFile, fileName);
+                content);
+        StagedFile stagedFile = this.underTest.stageFile(pdfFile);
+        this.underTest.commitFile(stagedFile);
 
         //Act
-        this.underTest.deleteFile(fileName);
-        Path storedFile = tempDir.resolve(fileName);
+        Resource actual = this.underTest.getFile(stagedFile.sha256());
 
         //Assert
-        assertThat(Files.exists(storedFile)).isFalse();
+        assertThat(actual.getContentAsByteArray()).isEqualTo(content);
     }
 
-    //findFileExtension()
     @Test
-    void shouldFindFileExtension() throws IOException {
+    void shouldThrowServerErrorExceptionWhenFileIsNotFoundOnGetFile() {
         //Arrange
-        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
-        byte[] pdfContent = Files.readAllBytes(pdfPath);
-        MultipartFile pdfFile = new MockMultipartFile(
+        String fileName = UUID.randomUUID().toString();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.getFile(fileName)).isInstanceOf(ServerErrorException.class)
+                .hasMessage("The server encountered an internal error and was unable to complete your request. " +
+                        "Please try again later");
+    }
+
+    //writeArchive()
+    @Test
+    void shouldWriteArchiveWithDecompressedFiles() throws IOException {
+        //Arrange
+        byte[] pdfContent = getFileContent();
+        byte[] latexContent = Files.readAllBytes(ResourceUtils.getFile("src/test/resources/files/test.tex").toPath());
+        StagedFile pdfFile = this.underTest.stageFile(new MockMultipartFile(
                 "file",
                 "test.pdf",
                 "application/pdf",
-                pdfContent);
-        String expected = ".pdf";
+                pdfContent));
+        StagedFile latexFile = this.underTest.stageFile(new MockMultipartFile(
+                "file",
+                "test.tex",
+                "application/x-tex",
+                latexContent));
+        this.underTest.commitFile(pdfFile);
+        this.underTest.commitFile(latexFile);
+        List<ArchiveEntry> entries = List.of(
+                new ArchiveEntry("1_test.pdf", pdfFile.fileName(), ".pdf", pdfFile.encoding()),
+                new ArchiveEntry("2_test.tex", latexFile.fileName(), ".tex", latexFile.encoding()));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //Act
+        this.underTest.writeArchive(entries, outputStream);
+
+        //Assert
+        try (ZipInputStream zipInputStream = new ZipInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(zipInputStream.getNextEntry().getName()).isEqualTo("1_test.pdf");
+            assertThat(zipInputStream.readAllBytes()).isEqualTo(pdfContent);
+            assertThat(zipInputStream.getNextEntry().getName()).isEqualTo("2_test.tex");
+            assertThat(zipInputStream.readAllBytes()).isEqualTo(latexContent);
+            assertThat(zipInputStream.getNextEntry()).isNull();
+        }
+    }
+
+    //appendChunk()
+    @Test
+    void shouldStageFileUploadedInChunks() throws Exception {
+        //Arrange
+        byte[] pdfContent = getFileContent();
+        int half = pdfContent.length / 2;
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(pdfContent));
+        UUID uploadId = UUID.randomUUID();
+        this.underTest.createUploadFile(uploadId);
 
         //Act
-        String actual = this.underTest.findFileExtension(pdfFile);
+        long first = this.underTest.appendChunk(uploadId, 0, pdfContent.length,
+                new ByteArrayInputStream(pdfContent, 0, half));
+        long second = this.underTest.appendChunk(uploadId, half, pdfContent.length,
+                new ByteArrayInputStream(pdfContent, half, pdfContent.length - half));
+        StagedFile actual = this.underTest.stageFile(this.underTest.getUploadFile(uploadId, "test.pdf"));
 
         //Assert
-        assertThat(actual).isEqualTo(expected);
+        assertThat(first).isEqualTo(half);
+        assertThat(second).isEqualTo(pdfContent.length);
+        assertThat(this.underTest.uploadFileMatches(uploadId, sha256)).isTrue();
+        assertThat(actual.sha256()).isEqualTo(sha256);
+        assertThat(actual.fileExtension()).isEqualTo(".pdf");
+    }
+
+    @Test
+    void shouldThrowStateConflictExceptionWhenChunkDoesNotStartAtOffset() {
+        //Arrange
+        UUID uploadId = UUID.randomUUID();
+        this.underTest.createUploadFile(uploadId);
+        this.underTest.appendChunk(uploadId, 0, 10, new ByteArrayInputStream(new byte[4]));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.appendChunk(uploadId, 2, 10, new ByteArrayInputStream(new byte[4])))
+                .isInstanceOf(StateConflictException.class)
+                .hasMessage("The chunk must start at offset: 4");
+        assertThat(this.underTest.getUploadFileSize(uploadId)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionAndDiscardChunkWhenChunkExceedsFileSize() {
+        //Arrange
+        UUID uploadId = UUID.randomUUID();
+        this.underTest.createUploadFile(uploadId);
+        this.underTest.appendChunk(uploadId, 0, 10, new ByteArrayInputStream(new byte[4]));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.appendChunk(uploadId, 4, 10, new ByteArrayInputStream(new byte[8])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The chunk exceeds the size of the file");
+        assertThat(this.underTest.getUploadFileSize(uploadId)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldKeepBytesReceivedBeforeClientDroppedMidChunk() {
+        //Arrange
+        UUID uploadId = UUID.randomUUID();
+        this.underTest.createUploadFile(uploadId);
+        InputStream inputStream = new SequenceInputStream(new ByteArrayInputStream(new byte[4]), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        //Act
+        long actual = this.underTest.appendChunk(uploadId, 0, 10, inputStream);
+
+        //Assert
+        assertThat(actual).isEqualTo(4);
+        assertThat(this.underTest.getUploadFileSize(uploadId)).isEqualTo(4);
+    }
+
+    //getUploadFileSize()
+    @Test
+    void shouldThrowResourceNotFoundExceptionWhenUploadFileIsNotFound() {
+        //Arrange
+        UUID uploadId = UUID.randomUUID();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.getUploadFileSize(uploadId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Upload not found with id: " + uploadId);
+    }
+
+    //deleteUploadFilesModifiedBefore()
+    @Test
+    void shouldDeleteOnlyUploadFilesModifiedBeforeExpiry() throws IOException {
+        //Arrange
+        UUID expiredId = UUID.randomUUID();
+        UUID activeId = UUID.randomUUID();
+        this.underTest.createUploadFile(expiredId);
+        this.underTest.createUploadFile(activeId);
+        Files.setLastModifiedTime(this.tempDir.resolve("uploads").resolve(expiredId + ".part"),
+                FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        //Act
+        int actual = this.underTest.deleteUploadFilesModifiedBefore(Instant.now().minus(Duration.ofDays(1)));
+
+        //Assert
+        assertThat(actual).isEqualTo(1);
+        assertThatThrownBy(() -> this.underTest.getUploadFileSize(expiredId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(this.underTest.getUploadFileSize(activeId)).isZero();
+    }
+
+    private byte[] getFileContent() throws IOException {
+        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
+
+        return Files.readAllBytes(pdfPath);
     }
 }
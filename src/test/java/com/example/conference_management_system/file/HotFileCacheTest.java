@@ -0,0 +1,130 @@
+package com.example.conference_management_system.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotFileCacheTest {
+    @TempDir
+    Path tempDir;
+    private SimpleMeterRegistry meterRegistry;
+    private Map<String, Integer> loads;
+    private HotFileCache underTest;
+
+    @BeforeEach
+    void setup() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.loads = new HashMap<>();
+        this.underTest = new HotFileCache(DataSize.ofBytes(100), DataSize.ofBytes(60), meterRegistry);
+    }
+
+    //get()
+    @Test
+    void shouldServeFileFromCacheAfterFirstLoad() throws IOException {
+        //Arrange
+        this.underTest.get("a", name -> load(name, 40));
+
+        //Act
+        Resource actual = this.underTest.get("a", name -> load(name, 40));
+
+        //Assert
+        assertThat(actual).isInstanceOf(BufferResource.class);
+        assertThat(actual.getContentAsByteArray()).isEqualTo(content(40));
+        assertThat(this.loads.get("a")).isEqualTo(1);
+        assertThat(this.meterRegistry.get("papers.file.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(this.meterRegistry.get("papers.file.cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFilesWhenMaxSizeIsExceeded() throws IOException {
+        //Arrange
+        this.underTest.get("a", name -> load(name, 40));
+        this.underTest.get("b", name -> load(name, 40));
+        this.underTest.get("a", name -> load(name, 40));
+
+        //Act
+        this.underTest.get("c", name -> load(name, 40));
+        this.underTest.get("a", name -> load(name, 40));
+        this.underTest.get("b", name -> load(name, 40));
+
+        //Assert
+        assertThat(this.loads.get("a")).isEqualTo(1);
+        assertThat(this.loads.get("b")).isEqualTo(2);
+        assertThat(this.underTest.size()).isLessThanOrEqualTo(100);
+        assertThat(this.meterRegistry.get("papers.file.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheFileLargerThanMaxFileSize() throws IOException {
+        //Act
+        this.underTest.get("a", name -> load(name, 80));
+        Resource actual = this.underTest.get("a", name -> load(name, 80));
+
+        //Assert
+        assertThat(actual).isNotInstanceOf(BufferResource.class);
+        assertThat(this.loads.get("a")).isEqualTo(2);
+        assertThat(this.underTest.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheFileOfLocalStorage() throws IOException {
+        //Arrange
+        Path path = Files.write(this.tempDir.resolve("a"), content(40));
+
+        //Act
+        this.underTest.get("a", name -> new FileSystemResource(path));
+        Resource actual = this.underTest.get("a", name -> new FileSystemResource(path));
+
+        //Assert
+        assertThat(actual.isFile()).isTrue();
+        assertThat(this.underTest.size()).isZero();
+        assertThat(this.meterRegistry.get("papers.file.cache.requests").tag("result", "miss").counter().count())
+                .isZero();
+    }
+
+    //evict()
+    @Test
+    void shouldLoadFileAgainAfterEvict() throws IOException {
+        //Arrange
+        this.underTest.get("a", name -> load(name, 40));
+
+        //Act
+        this.underTest.evict("a");
+        this.underTest.get("a", name -> load(name, 40));
+
+        //Assert
+        assertThat(this.loads.get("a")).isEqualTo(2);
+        assertThat(this.underTest.size()).isEqualTo(40);
+    }
+
+    private Resource load(String fileName, int size) {
+        this.loads.merge(fileName, 1, Integer::sum);
+
+        return new ByteArrayResource(content(size));
+    }
+
+    private byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+
+        return content;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.conference_management_system.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    Files stored before the sharded layout are directly in the papers directory, the tests write them there
+ */
+class LocalPaperStorageTest {
+    @TempDir
+    Path tempDir;
+    private LocalPaperStorage underTest;
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new LocalPaperStorage(tempDir.toString());
+    }
+
+    //load()
+    @Test
+    void shouldLoadFileStoredInFlatLayout() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        byte[] content = getFileContent();
+        Files.write(tempDir.resolve(fileName), content);
+
+        //Act
+        Resource actual = this.underTest.load(fileName);
+
+        //Assert
+        assertThat(actual.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldReturnNullWhenFileIsNotFoundOnLoad() {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+
+        //Act
+        Resource actual = this.underTest.load(fileName);
+
+        //Assert
+        assertThat(actual).isNull();
+    }
+
+    //delete()
+    @Test
+    void shouldDeleteFileStoredInFlatLayout() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        Files.write(tempDir.resolve(fileName), getFileContent());
+
+        //Act
+        boolean actual = this.underTest.delete(fileName);
+
+        //Assert
+        assertThat(actual).isTrue();
+        assertThat(Files.exists(tempDir.resolve(fileName))).isFalse();
+    }
+
+    //migrateToShardedLayout()
+    @Test
+    void shouldMoveFlatFilesToShardedLayoutAndSkipTemporaryFiles() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        String tempFileName = UUID.randomUUID() + ".tmp";
+        byte[] content = getFileContent();
+        Files.write(tempDir.resolve(fileName), content);
+        Files.write(tempDir.resolve(tempFileName), content);
+
+        //Act
+        int actual = this.underTest.migrateToShardedLayout();
+
+        //Assert
+        assertThat(actual).isEqualTo(1);
+        assertThat(Files.exists(tempDir.resolve(fileName))).isFalse();
+        assertThat(Files.exists(tempDir.resolve(tempFileName))).isTrue();
+        assertThat(Files.readAllBytes(tempDir.resolve(fileName.substring(0, 2))
+                .resolve(fileName.substring(2, 4))
+                .resolve(fileName))).isEqualTo(content);
+        assertThat(this.underTest.migrateToShardedLayout()).isZero();
+    }
+
+    private byte[] getFileContent() throws IOException {
+        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
+
+        return Files.readAllBytes(pdfPath);
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.conference_management_system.file;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ResourceUtils;
+import org.testcontainers.containers.GenericContainer;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    MinIO is the local stand-in for S3, the container is shared by the tests of the class and every test uses its own
+    file name.
+ */
+class S3PaperStorageTest {
+    @TempDir
+    Path tempDir;
+    private S3PaperStorage underTest;
+    private static S3Client s3Client;
+    private static final String BUCKET = "papers";
+
+    private static final GenericContainer<?> minioContainer = new GenericContainer<>("minio/minio:latest")
+            .withCommand("server", "/data")
+            .withEnv("MINIO_ROOT_USER", "minioadmin")
+            .withEnv("MINIO_ROOT_PASSWORD", "minioadmin")
+            .withExposedPorts(9000);
+
+    @BeforeAll
+    static void startContainer() {
+        minioContainer.start();
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create("http://" + minioContainer.getHost() + ":"
+                        + minioContainer.getMappedPort(9000)))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("minioadmin", "minioadmin")))
+                .forcePathStyle(true)
+                .build();
+        s3Client.createBucket(request -> request.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new S3PaperStorage(s3Client, BUCKET);
+    }
+
+    //store() and load()
+    @Test
+    void shouldStoreAndLoadFile() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        byte[] content = getFileContent();
+        Path source = Files.write(tempDir.resolve(fileName), content);
+
+        //Act
+        this.underTest.store(fileName, source);
+        Resource actual = this.underTest.load(fileName);
+
+        //Assert
+        assertThat(this.underTest.exists(fileName)).isTrue();
+        assertThat(actual.contentLength()).isEqualTo(content.length);
+        assertThat(actual.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldReturnNullWhenFileIsNotFoundOnLoad() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+
+        //Act
+        Resource actual = this.underTest.load(fileName);
+
+        //Assert
+        assertThat(actual).isNull();
+        assertThat(this.underTest.exists(fileName)).isFalse();
+    }
+
+    @Test
+    void shouldLoadOnlyTheRequestedRangeOfFile() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        byte[] content = getFileContent();
+        Path source = Files.write(tempDir.resolve(fileName), content);
+        this.underTest.store(fileName, source);
+
+        //Act
+        byte[] actual;
+        try (InputStream inputStream = ((RangeReadableResource) this.underTest.load(fileName))
+                .getInputStream(100, 50)) {
+            actual = inputStream.readAllBytes();
+        }
+
+        //Assert
+        assertThat(actual).isEqualTo(Arrays.copyOfRange(content, 100, 150));
+    }
+
+    //delete()
+    @Test
+    void shouldDeleteFile() throws IOException {
+        //Arrange
+        String fileName = UUID.randomUUID().toString();
+        Path source = Files.write(tempDir.resolve(fileName), getFileContent());
+        this.underTest.store(fileName, source);
+
+        //Act
+        boolean actual = this.underTest.delete(fileName);
+
+        //Assert
+        assertThat(actual).isTrue();
+        assertThat(this.underTest.exists(fileName)).isFalse();
+        assertThat(this.underTest.delete(fileName)).isFalse();
+    }
+
+    //listFileNames()
+    @Test
+    void shouldListFileNamesInAscendingOrder() throws IOException {
+        //Arrange
+        String bucket = UUID.randomUUID().toString();
+        s3Client.createBucket(request -> request.bucket(bucket));
+        S3PaperStorage storage = new S3PaperStorage(s3Client, bucket);
+        Path source = Files.write(tempDir.resolve("file"), getFileContent());
+        storage.store("b", source);
+        storage.store("a", source);
+
+        //Act
+        List<String> actual;
+        try (Stream<String> fileNames = storage.listFileNames()) {
+            actual = fileNames.toList();
+        }
+
+        //Assert
+        assertThat(actual).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldThrowUncheckedIOExceptionWhileReadingTheFileNamesWhenListingFails() {
+        //Arrange
+        S3PaperStorage storage = new S3PaperStorage(s3Client, UUID.randomUUID().toString());
+
+        //Act & Assert
+        try (Stream<String> fileNames = storage.listFileNames()) {
+            assertThatThrownBy(fileNames::toList).isInstanceOf(UncheckedIOException.class)
+                    .hasCauseInstanceOf(IOException.class);
+        }
+    }
+
+    private byte[] getFileContent() throws IOException {
+        Path pdfPath = ResourceUtils.getFile("src/test/resources/files/test.pdf").toPath();
+
+        return Files.readAllBytes(pdfPath);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.conference_management_system.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.conference_management_system.AbstractRepositoryTest;
+import com.example.conference_management_system.entity.OutboxEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    The relay's guarantee that concurrent workers publish disjoint batches depends on the lock timeout hint being
+    rendered as FOR UPDATE SKIP LOCKED, so the tests commit their own transactions instead of running in the rolled back
+    one of @DataJpaTest. The second transaction is opened while the first one still holds the locks of its batch.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxEventRepositoryTest extends AbstractRepositoryTest {
+    @Autowired
+    private OutboxEventRepository underTest;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanup() {
+        this.underTest.deleteAllInBatch();
+    }
+
+    //findBatchSkippingLocked()
+    @Test
+    void shouldReturnDisjointBatchesToConcurrentTransactionsAndDeleteThemOnCommit() {
+        //Arrange
+        for (long i = 1; i <= 4; i++) {
+            this.underTest.save(new OutboxEvent(OutboxEventType.PAPER_SUBMITTED, String.valueOf(i),
+                    "{\"paperId\":" + i + "}"));
+        }
+        TransactionTemplate first = new TransactionTemplate(this.transactionManager);
+        TransactionTemplate second = new TransactionTemplate(this.transactionManager);
+        second.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        //Act
+        List<List<Long>> batches = first.execute(firstStatus -> {
+            List<Long> firstBatch = relayBatch();
+            List<Long> secondBatch = second.execute(secondStatus -> relayBatch());
+
+            return List.of(firstBatch, secondBatch);
+        });
+
+        //Assert
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.get(1)).hasSize(2);
+        assertThat(batches.get(0)).doesNotContainAnyElementsOf(batches.get(1));
+        assertThat(this.underTest.count()).isZero();
+    }
+
+    @Test
+    void shouldKeepBatchWhenTransactionRollsBack() {
+        //Arrange
+        this.underTest.save(new OutboxEvent(OutboxEventType.PAPER_SUBMITTED, "1", "{\"paperId\":1}"));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+
+        //Act
+        transactionTemplate.executeWithoutResult(status -> {
+            relayBatch();
+            status.setRollbackOnly();
+        });
+
+        //Assert
+        assertThat(this.underTest.count()).isEqualTo(1);
+    }
+
+    /*
+        What OutboxRelay#relayBatch() does with the database, without publishing
+     */
+    private List<Long> relayBatch() {
+        List<Long> ids = this.underTest.findBatchSkippingLocked(PageRequest.of(0, 2)).stream()
+                .map(OutboxEvent::getId)
+                .toList();
+        this.underTest.deleteAllByIdInBatch(ids);
+
+        return ids;
+    }
+}
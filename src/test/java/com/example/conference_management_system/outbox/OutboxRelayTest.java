@@ -0,0 +1,114 @@
+package com.example.conference_management_system.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.conference_management_system.entity.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisStreamCommands streamCommands;
+    private OutboxRelay underTest;
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new OutboxRelay(
+                outboxEventRepository,
+                redisTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                "conference-events",
+                100,
+                1,
+                1000
+        );
+    }
+
+    //relayBatch()
+    @Test
+    void shouldPublishBatchToTheStreamAndDeleteIt() {
+        //Arrange
+        List<OutboxEvent> events = List.of(getOutboxEvent(1L), getOutboxEvent(2L));
+
+        when(this.outboxEventRepository.findBatchSkippingLocked(any(Pageable.class))).thenReturn(events);
+        when(this.redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(this.connection);
+            return List.of();
+        });
+        when(this.connection.streamCommands()).thenReturn(this.streamCommands);
+
+        //Act
+        int actual = this.underTest.relayBatch();
+
+        //Assert
+        assertThat(actual).isEqualTo(2);
+        verify(this.streamCommands, times(2))
+                .xAdd(any(ByteRecord.class), any(RedisStreamCommands.XAddOptions.class));
+        verify(this.outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldNotDeleteBatchWhenPublishingFails() {
+        //Arrange
+        when(this.outboxEventRepository.findBatchSkippingLocked(any(Pageable.class)))
+                .thenReturn(List.of(getOutboxEvent(1L)));
+        when(this.redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.relayBatch()).isInstanceOf(RedisConnectionFailureException.class);
+        verify(this.outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void shouldNotPublishWhenThereAreNoEvents() {
+        //Arrange
+        when(this.outboxEventRepository.findBatchSkippingLocked(any(Pageable.class))).thenReturn(List.of());
+
+        //Act
+        int actual = this.underTest.relayBatch();
+
+        //Assert
+        assertThat(actual).isZero();
+        verify(this.redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    private OutboxEvent getOutboxEvent(Long id) {
+        OutboxEvent event = new OutboxEvent(OutboxEventType.PAPER_SUBMITTED, "1", "{\"paperId\":1}");
+        event.setId(id);
+        event.setCreatedDate(Instant.now());
+
+        return event;
+    }
+}
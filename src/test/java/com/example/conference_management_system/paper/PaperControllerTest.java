@@ -3,7 +3,10 @@ package com.example.conference_management_system.paper;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -11,12 +14,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.conference_management_system.config.SecurityConfig;
@@ -28,6 +34,7 @@ import com.example.conference_management_system.paper.dto.AuthorAdditionRequest;
 import com.example.conference_management_system.paper.dto.PaperCreateRequest;
 import com.example.conference_management_system.paper.dto.PaperDTO;
 import com.example.conference_management_system.paper.dto.PaperFile;
+import com.example.conference_management_system.paper.dto.PaperPage;
 import com.example.conference_management_system.paper.dto.PaperUpdateRequest;
 import com.example.conference_management_system.review.dto.ReviewCreateRequest;
 import com.example.conference_management_system.security.SecurityUser;
@@ -49,11 +56,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.ResourceUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -906,7 +918,7 @@ class PaperControllerTest {
     @Test
     @WithMockCustomUser(roles = "ROLE_AUTHOR")
     void should200WhenDownloadPaperIsSuccessful() throws Exception {
-        PaperFile paperFile = new PaperFile(new ByteArrayResource((getFileContent())), "test.pdf");
+        PaperFile paperFile = new PaperFile(new ByteArrayResource((getFileContent())), "test.pdf", "sha256", null, null);
 
         when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
 
@@ -915,12 +927,119 @@ class PaperControllerTest {
                 .andExpectAll(
                         status().isOk(),
                         content().contentType(MediaType.APPLICATION_OCTET_STREAM),
-                        header().exists(HttpHeaders.CONTENT_DISPOSITION))
+                        header().exists(HttpHeaders.CONTENT_DISPOSITION),
+                        header().string(HttpHeaders.ACCEPT_RANGES, "bytes"),
+                        header().string(HttpHeaders.ETAG, "\"sha256\""))
                 .andReturn();
 
         assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(paperFile.file().getContentAsByteArray());
     }
 
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    void should206WhenRangeIsRequestedOnDownloadPaper() throws Exception {
+        byte[] content = getFileContent();
+        PaperFile paperFile = new PaperFile(new ByteArrayResource(content), "test.pdf", "sha256", null, null);
+
+        when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
+
+        MvcResult result = this.mockMvc.perform(get(PAPER_PATH + "/{id}/download", 1L)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.RANGE, "bytes=10-")
+                        .header(HttpHeaders.IF_RANGE, "\"sha256\""))
+                .andExpectAll(
+                        status().isPartialContent(),
+                        header().string(HttpHeaders.CONTENT_RANGE,
+                                "bytes 10-" + (content.length - 1) + "/" + content.length),
+                        header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.length - 10)))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(
+                Arrays.copyOfRange(content, 10, content.length));
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    @DisplayName("If-Range does not match the ETag of the file, the whole file is returned")
+    void should200WhenIfRangeDoesNotMatchOnDownloadPaper() throws Exception {
+        byte[] content = getFileContent();
+        PaperFile paperFile = new PaperFile(new ByteArrayResource(content), "test.pdf", "sha256", null, null);
+
+        when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
+
+        MvcResult result = this.mockMvc.perform(get(PAPER_PATH + "/{id}/download", 1L)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.RANGE, "bytes=10-")
+                        .header(HttpHeaders.IF_RANGE, "\"previous\""))
+                .andExpectAll(
+                        status().isOk(),
+                        header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    void should200WithCompressedFileWhenClientAcceptsEncodingOnDownloadPaper() throws Exception {
+        byte[] content = "\\documentclass{article}".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(content);
+        PaperFile paperFile = new PaperFile(new ByteArrayResource(compressed), "test.tex", "sha256.gz", "gzip",
+                (long) content.length);
+
+        when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
+
+        MvcResult result = this.mockMvc.perform(get(PAPER_PATH + "/{id}/download", 1L)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.CONTENT_ENCODING, "gzip"),
+                        header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING),
+                        header().string(HttpHeaders.ETAG, "\"sha256.gz\""))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(compressed);
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    void should200WithDecompressedFileWhenClientDoesNotAcceptEncodingOnDownloadPaper() throws Exception {
+        byte[] content = "\\documentclass{article}".getBytes(StandardCharsets.UTF_8);
+        PaperFile paperFile = new PaperFile(new ByteArrayResource(gzip(content)), "test.tex", "sha256.gz", "gzip",
+                (long) content.length);
+
+        when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
+
+        MvcResult result = this.mockMvc.perform(get(PAPER_PATH + "/{id}/download", 1L)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpectAll(
+                        status().isOk(),
+                        header().doesNotExist(HttpHeaders.CONTENT_ENCODING),
+                        header().string(HttpHeaders.ETAG, "\"sha256\""),
+                        header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.length)))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    @WithMockCustomUser(roles = "ROLE_AUTHOR")
+    void should416WhenRangeIsNotSatisfiableOnDownloadPaper() throws Exception {
+        byte[] content = getFileContent();
+        PaperFile paperFile = new PaperFile(new ByteArrayResource(content), "test.pdf", "sha256", null, null);
+
+        when(this.paperService.downloadPaperFile(eq(1L), any(SecurityUser.class))).thenReturn(paperFile);
+
+        this.mockMvc.perform(get(PAPER_PATH + "/{id}/download", 1L)
+                        .accept(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.RANGE, "bytes=" + content.length + "-"))
+                .andExpectAll(
+                        status().isRequestedRangeNotSatisfiable(),
+                        header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + content.length));
+    }
+
     @Test
     @WithMockCustomUser(roles = "ROLE_AUTHOR")
     void should404WhenPaperIsNotFoundOnDownloadPaper() throws Exception {
@@ -1021,16 +1140,33 @@ class PaperControllerTest {
                 }
                 """;
 
+        when(this.paperService.findPaperETag(eq(1L), any(SecurityContext.class))).thenReturn("0-public");
         when(this.paperService.findPaperById(eq(1L), any(SecurityContext.class))).thenReturn(getPapers()[0]);
 
         this.mockMvc.perform(get(PAPER_PATH + "/{id}", 1L)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"0-public\""),
                         content().json(responseBody)
                 );
     }
 
+    @Test
+    void should304WithoutLoadingThePaperWhenETagMatchesOnFindPaperById() throws Exception {
+        when(this.paperService.findPaperETag(eq(1L), any(SecurityContext.class))).thenReturn("0-public");
+
+        this.mockMvc.perform(get(PAPER_PATH + "/{id}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0-public\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isNotModified(),
+                        content().string("")
+                );
+
+        verify(this.paperService, times(0)).findPaperById(any(), any());
+    }
+
     @Test
     void should404WhenPaperIsNotFoundOnFindPaperById() throws Exception {
         String responseBody = String.format("""
@@ -1089,16 +1225,146 @@ class PaperControllerTest {
                 any(String.class),
                 any(String.class),
                 any(String.class),
-                any(SecurityContext.class))).thenReturn(Arrays.stream(getPapers()).toList());
+                isNull(),
+                eq(20),
+                any(SecurityContext.class))).thenReturn(new PaperPage(Arrays.stream(getPapers()).toList(), null));
 
         this.mockMvc.perform(get(PAPER_PATH)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().doesNotExist(HttpHeaders.LINK),
+                        content().json(responseBody)
+                );
+    }
+
+    @Test
+    void shouldReturnLinkToNextPageOnFindPapers() throws Exception {
+        when(this.paperService.findPapers(
+                eq("title"),
+                any(String.class),
+                any(String.class),
+                isNull(),
+                eq(1),
+                any(SecurityContext.class))).thenReturn(new PaperPage(List.of(getPapers()[0]), "next"));
+
+        this.mockMvc.perform(get(PAPER_PATH + "?title={title}&limit={limit}", "title", 1)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.LINK, containsString("title=title")),
+                        header().string(HttpHeaders.LINK, containsString("limit=1")),
+                        header().string(HttpHeaders.LINK, containsString("cursor=next>; rel=\"next\""))
+                );
+    }
+
+    @Test
+    void shouldSearchPapersWhenQueryIsProvidedOnFindPapers() throws Exception {
+        when(this.paperService.searchPapers(
+                eq("neural networks"),
+                isNull(),
+                eq(20),
+                any(SecurityContext.class))).thenReturn(new PaperPage(List.of(getPapers()[1]), null));
+
+        this.mockMvc.perform(get(PAPER_PATH + "?query={query}", "neural networks")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(2)
+                );
+
+        verify(this.paperService, times(0)).findPapers(
+                any(String.class),
+                any(String.class),
+                any(String.class),
+                any(),
+                anyInt(),
+                any(SecurityContext.class));
+    }
+
+    @Test
+    void shouldFindSimilarPapersWhenFuzzyIsProvidedOnFindPapers() throws Exception {
+        when(this.paperService.findSimilarPapers(
+                eq("jonathon smiht"),
+                isNull(),
+                eq(20),
+                any(SecurityContext.class))).thenReturn(new PaperPage(List.of(getPapers()[0]), null));
+
+        this.mockMvc.perform(get(PAPER_PATH + "?fuzzy={fuzzy}", "jonathon smiht")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(1),
+                        jsonPath("$[0].id").value(4)
+                );
+    }
+
+    @Test
+    void should400WhenLimitIsInvalidOnFindPapers() throws Exception {
+        String responseBody = """
+                {
+                    "message": "Limit must be between 1 and 100"
+                }
+                """;
+
+        when(this.paperService.findPapers(
+                any(String.class),
+                any(String.class),
+                any(String.class),
+                isNull(),
+                eq(0),
+                any(SecurityContext.class))).thenThrow(new IllegalArgumentException("Limit must be between 1 and 100"));
+
+        this.mockMvc.perform(get(PAPER_PATH + "?limit={limit}", 0)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpectAll(
+                        status().isBadRequest(),
                         content().json(responseBody)
                 );
     }
 
+    //exportPapers()
+    @Test
+    void should200WithOneJsonLinePerPaperOnExportPapers() throws Exception {
+        PaperDTO[] papers = getPapers();
+
+        doAnswer(invocation -> {
+            Consumer<PaperDTO> consumer = invocation.getArgument(0);
+            Arrays.stream(papers).forEach(consumer);
+
+            return null;
+        }).when(this.paperService).exportPapers(any());
+
+        MvcResult mvcResult = this.mockMvc.perform(get(PAPER_PATH + "/export")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = this.mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpectAll(
+                        status().isOk(),
+                        header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                )
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":4");
+        assertThat(lines[1]).contains("\"id\":2");
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+
+        return outputStream.toByteArray();
+    }
+
     private byte[] getFileContent() throws IOException {
         Path pdfPath = ResourceUtils.getFile("classpath:files/test.pdf").toPath();
 
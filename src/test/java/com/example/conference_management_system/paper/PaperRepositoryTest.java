@@ -1,16 +1,30 @@
 package com.example.conference_management_system.paper;
 
 import com.example.conference_management_system.AbstractRepositoryTest;
+import com.example.conference_management_system.entity.Conference;
 import com.example.conference_management_system.entity.Paper;
+import com.example.conference_management_system.entity.PaperUser;
+import com.example.conference_management_system.entity.Review;
+import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.entity.key.PaperUserId;
+import com.example.conference_management_system.paper.dto.PaperDTO;
+import com.example.conference_management_system.role.RoleType;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PaperRepositoryTest extends AbstractRepositoryTest {
     @Autowired
     private PaperRepository underTest;
+    @Autowired
+    private TestEntityManager entityManager;
 
     //existsByTitleIgnoreCase()
     @Test
@@ -33,6 +47,177 @@ class PaperRepositoryTest extends AbstractRepositoryTest {
         assertThat(this.underTest.existsByTitleIgnoreCase("test")).isFalse();
     }
 
+    //findByPaperIdsFetchingPaperUsers() and fetchReviewsForPapers()
+    @Test
+    void shouldInitializePaperUsersAndReviewsWithSeparateQueries() {
+        //Arrange
+        User user = this.entityManager.persist(new User("username", "password", "Full Name"));
+        Paper paper = this.underTest.save(new Paper("title", "abstractText", "Full Name", "keyword"));
+        this.entityManager.persist(new PaperUser(
+                new PaperUserId(paper.getId(), user.getId()),
+                paper,
+                user,
+                RoleType.ROLE_AUTHOR));
+        this.entityManager.persist(new Review(paper, user, "comment", 5.0));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        //Act
+        List<Paper> actual = this.underTest.findByPaperIdsFetchingPaperUsers(List.of(paper.getId()));
+        this.underTest.fetchReviewsForPapers(actual);
+
+        //Assert
+        assertThat(actual).hasSize(1);
+        assertThat(Hibernate.isInitialized(actual.get(0).getPaperUsers())).isTrue();
+        assertThat(Hibernate.isInitialized(actual.get(0).getReviews())).isTrue();
+        assertThat(actual.get(0).getPaperUsers()).hasSize(1);
+        assertThat(actual.get(0).getReviews()).hasSize(1);
+    }
+
+    //searchPapers()
+    @Test
+    void shouldRankPapersMatchingInTitleHigherOnSearchPapers() {
+        //Arrange
+        Paper paper = new Paper("Graph neural networks", "We study message passing", "author 1", "graphs");
+        Paper another = new Paper("Message passing", "We study graph neural networks", "author 2", "networks");
+        Paper unrelated = new Paper("Compilers", "We study register allocation", "author 3", "compilers");
+        this.underTest.saveAll(List.of(paper, another, unrelated));
+
+        //Act
+        List<RankedPaper> actual = this.underTest.searchPapers("neural networks", Float.MAX_VALUE, 0, 10);
+
+        //Assert
+        assertThat(actual).extracting(RankedPaper::getId).containsExactly(paper.getId(), another.getId());
+    }
+
+    @Test
+    void shouldContinueAfterCursorOnSearchPapers() {
+        //Arrange
+        Paper paper = new Paper("Graph neural networks", "We study message passing", "author 1", "graphs");
+        Paper another = new Paper("Message passing", "We study graph neural networks", "author 2", "networks");
+        this.underTest.saveAll(List.of(paper, another));
+        RankedPaper first = this.underTest.searchPapers("neural networks", Float.MAX_VALUE, 0, 1).get(0);
+
+        //Act
+        List<RankedPaper> actual = this.underTest.searchPapers("neural networks", first.getRank(), first.getId(), 10);
+
+        //Assert
+        assertThat(actual).extracting(RankedPaper::getId).containsExactly(another.getId());
+    }
+
+    //findSimilarPapers()
+    @Test
+    void shouldFindPapersWithMisspelledAuthorOnFindSimilarPapers() {
+        //Arrange
+        Paper paper = new Paper("Graph neural networks", "abstractText", "Jonathan Smith,Maria Garcia", "graphs");
+        Paper unrelated = new Paper("Compilers", "abstractText", "Peter Brown", "compilers");
+        this.underTest.saveAll(List.of(paper, unrelated));
+        this.underTest.setWordSimilarityThreshold("0.4");
+
+        //Act
+        List<RankedPaper> actual = this.underTest.findSimilarPapers("jonathon smiht", Float.MAX_VALUE, 0, 10);
+
+        //Assert
+        assertThat(actual).extracting(RankedPaper::getId).containsExactly(paper.getId());
+    }
+
+    //findPaperDTOs()
+    @Test
+    void shouldFilterAndContinueAfterCursorOnFindPaperDTOs() {
+        //Arrange
+        Paper first = new Paper("A title", "abstractText", "author 1", "keyword");
+        Paper second = new Paper("B title", "abstractText", "author 1,author 2", "keyword 1,keyword 2");
+        Paper other = new Paper("C title", "abstractText", "author 3", "keyword");
+        this.underTest.saveAll(List.of(first, second, other));
+
+        //Act
+        List<PaperDTO> actual = this.underTest.findPaperDTOs(
+                "",
+                "author 1",
+                "",
+                first.getTitle(),
+                first.getId(),
+                PageRequest.ofSize(10));
+
+        //Assert
+        assertThat(actual).extracting(PaperDTO::getId).containsExactly(second.getId());
+        assertThat(actual.get(0).getAuthors()).containsExactly("author 1", "author 2");
+        assertThat(actual.get(0).getKeywords()).containsExactly("keyword 1", "keyword 2");
+    }
+
+    //updateStateByConferenceIdAndState()
+    @Test
+    void shouldUpdateStateAndIncrementVersionOfTheConferencePapersInTheGivenState() {
+        //Arrange
+        Conference conference = this.entityManager.persist(new Conference("name", "description"));
+        Conference other = this.entityManager.persist(new Conference("other", "description"));
+        Paper approved = getPaper("approved", PaperState.APPROVED, conference);
+        Paper rejected = getPaper("rejected", PaperState.REJECTED, conference);
+        Paper otherApproved = getPaper("other approved", PaperState.APPROVED, other);
+        this.underTest.saveAll(List.of(approved, rejected, otherApproved));
+
+        //Act
+        int actual = this.underTest.updateStateByConferenceIdAndState(conference.getId(), PaperState.APPROVED,
+                PaperState.ACCEPTED);
+
+        //Assert
+        assertThat(actual).isEqualTo(1);
+
+        Paper acceptedPaper = this.entityManager.find(Paper.class, approved.getId());
+        assertThat(acceptedPaper.getState()).isEqualTo(PaperState.ACCEPTED);
+        assertThat(acceptedPaper.getVersion()).isEqualTo(approved.getVersion() + 1);
+
+        Paper rejectedPaper = this.entityManager.find(Paper.class, rejected.getId());
+        assertThat(rejectedPaper.getState()).isEqualTo(PaperState.REJECTED);
+        assertThat(rejectedPaper.getVersion()).isEqualTo(rejected.getVersion());
+
+        Paper otherPaper = this.entityManager.find(Paper.class, otherApproved.getId());
+        assertThat(otherPaper.getState()).isEqualTo(PaperState.APPROVED);
+        assertThat(otherPaper.getVersion()).isEqualTo(otherApproved.getVersion());
+    }
+
+    //updateStateAndRemoveConferenceByConferenceIdAndState()
+    @Test
+    void shouldUpdateStateRemoveConferenceAndIncrementVersionOfTheConferencePapersInTheGivenState() {
+        //Arrange
+        Conference conference = this.entityManager.persist(new Conference("name", "description"));
+        Conference other = this.entityManager.persist(new Conference("other", "description"));
+        Paper approved = getPaper("approved", PaperState.APPROVED, conference);
+        Paper rejected = getPaper("rejected", PaperState.REJECTED, conference);
+        Paper otherRejected = getPaper("other rejected", PaperState.REJECTED, other);
+        this.underTest.saveAll(List.of(approved, rejected, otherRejected));
+
+        //Act
+        int actual = this.underTest.updateStateAndRemoveConferenceByConferenceIdAndState(conference.getId(),
+                PaperState.REJECTED, PaperState.CREATED);
+
+        //Assert
+        assertThat(actual).isEqualTo(1);
+
+        Paper createdPaper = this.entityManager.find(Paper.class, rejected.getId());
+        assertThat(createdPaper.getState()).isEqualTo(PaperState.CREATED);
+        assertThat(createdPaper.getConference()).isNull();
+        assertThat(createdPaper.getVersion()).isEqualTo(rejected.getVersion() + 1);
+
+        Paper approvedPaper = this.entityManager.find(Paper.class, approved.getId());
+        assertThat(approvedPaper.getState()).isEqualTo(PaperState.APPROVED);
+        assertThat(approvedPaper.getConference().getId()).isEqualTo(conference.getId());
+        assertThat(approvedPaper.getVersion()).isEqualTo(approved.getVersion());
+
+        Paper otherPaper = this.entityManager.find(Paper.class, otherRejected.getId());
+        assertThat(otherPaper.getState()).isEqualTo(PaperState.REJECTED);
+        assertThat(otherPaper.getConference().getId()).isEqualTo(other.getId());
+        assertThat(otherPaper.getVersion()).isEqualTo(otherRejected.getVersion());
+    }
+
+    private Paper getPaper(String title, PaperState state, Conference conference) {
+        Paper paper = new Paper(title, "abstractText", "Full Name", "keyword");
+        paper.setState(state);
+        paper.setConference(conference);
+
+        return paper;
+    }
+
     private Paper getPaper() {
         Paper paper = new Paper();
         paper.setId(1L);
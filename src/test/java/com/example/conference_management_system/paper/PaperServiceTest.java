@@ -2,6 +2,7 @@ package com.example.conference_management_system.paper;
 
 import com.example.conference_management_system.conference.ConferenceState;
 import com.example.conference_management_system.content.ContentRepository;
+import com.example.conference_management_system.content.ContentService;
 import com.example.conference_management_system.entity.Conference;
 import com.example.conference_management_system.entity.ConferenceUser;
 import com.example.conference_management_system.entity.Content;
@@ -16,6 +17,7 @@ import com.example.conference_management_system.exception.ResourceNotFoundExcept
 import com.example.conference_management_system.exception.ServerErrorException;
 import com.example.conference_management_system.exception.StateConflictException;
 import com.example.conference_management_system.exception.UnsupportedFileException;
+import com.example.conference_management_system.paper.dto.PaperDTO;
 import com.example.conference_management_system.paper.dto.PaperFile;
 import com.example.conference_management_system.review.dto.ReviewCreateRequest;
 import com.example.conference_management_system.user.UserService;
@@ -24,6 +26,7 @@ import com.example.conference_management_system.paper.dto.PaperCreateRequest;
 import com.example.conference_management_system.review.ReviewRepository;
 import com.example.conference_management_system.role.RoleService;
 import com.example.conference_management_system.auth.AuthService;
+import com.example.conference_management_system.outbox.OutboxService;
 import com.example.conference_management_system.paper.dto.AuthorAdditionRequest;
 import com.example.conference_management_system.paper.dto.PaperUpdateRequest;
 import com.example.conference_management_system.role.RoleType;
@@ -42,6 +45,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.ResourceUtils;
@@ -51,6 +55,7 @@ import org.testcontainers.shaded.org.apache.commons.lang3.RandomStringUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Random;
@@ -59,7 +64,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -73,6 +81,8 @@ class PaperServiceTest {
     @Mock
     private ContentRepository contentRepository;
     @Mock
+    private ContentService contentService;
+    @Mock
     private ReviewRepository reviewRepository;
     @Mock
     private UserService userService;
@@ -82,6 +92,8 @@ class PaperServiceTest {
     private RoleService roleService;
     @Mock
     private FileService fileService;
+    @Mock
+    private OutboxService outboxService;
 
     private PaperService underTest;
 
@@ -91,11 +103,13 @@ class PaperServiceTest {
                 paperRepository,
                 paperUserRepository,
                 contentRepository,
+                contentService,
                 reviewRepository,
                 userService,
                 authService,
                 roleService,
-                fileService
+                fileService,
+                outboxService
         );
     }
 
@@ -292,7 +306,8 @@ class PaperServiceTest {
         );
         SecurityUser securityUser = getSecurityUser();
 
-        when(this.fileService.isFileSupported(imageFile)).thenReturn(false);
+        when(this.fileService.stageFile(imageFile)).thenThrow(new UnsupportedFileException(
+                "The provided file is not supported. Make sure your file is either a pdf or a Latex one"));
 
         //Act & Assert
         assertThatThrownBy(() -> this.underTest.createPaper(paperCreateRequest, securityUser, httpServletRequest))
@@ -319,7 +334,6 @@ class PaperServiceTest {
         SecurityUser securityUser = getSecurityUser();
 
         when(this.paperRepository.existsByTitleIgnoreCase(paperCreateRequest.title())).thenReturn(true);
-        when(this.fileService.isFileSupported(pdfFile)).thenReturn(true);
 
         //Act & Assert
         assertThatThrownBy(() -> this.underTest.createPaper(paperCreateRequest, securityUser, httpServletRequest))
@@ -622,7 +636,7 @@ class PaperServiceTest {
         content.setId(paper.getId());
         Resource resource = new UrlResource(ResourceUtils.getFile("classpath:files/test.pdf").toPath().toUri());
 
-        PaperFile expected = new PaperFile(resource, content.getOriginalFileName());
+        PaperFile expected = new PaperFile(resource, content.getOriginalFileName(), generatedFileName, null, null);
 
         when(this.paperRepository.findPaperGraphById(1L)).thenReturn(Optional.of(paper));
         when(this.contentRepository.findByPaperId(1L)).thenReturn(Optional.of(content));
@@ -649,7 +663,7 @@ class PaperServiceTest {
         Content content = new Content("test.pdf", generatedFileName, ".pdf");
         content.setId(paper.getId());
         Resource resource = new UrlResource(ResourceUtils.getFile("classpath:files/test.pdf").toPath().toUri());
-        PaperFile expected = new PaperFile(resource, content.getOriginalFileName());
+        PaperFile expected = new PaperFile(resource, content.getOriginalFileName(), generatedFileName, null, null);
 
         when(this.paperRepository.findPaperGraphById(1L)).thenReturn(Optional.of(paper));
         when(this.contentRepository.findByPaperId(1L)).thenReturn(Optional.of(content));
@@ -715,7 +729,7 @@ class PaperServiceTest {
         //Arrange
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 
-        when(this.paperRepository.findByPaperIdFetchingPaperUsersAndReviews(1L)).thenReturn(Optional.empty());
+        when(this.paperRepository.findPaperDTOById(1L)).thenReturn(Optional.empty());
 
         //Act & Assert
         assertThatThrownBy(() -> this.underTest.findPaperById(1L, securityContext))
@@ -723,6 +737,71 @@ class PaperServiceTest {
                 .hasMessage("Paper not found with id: " + 1L);
     }
 
+    @Test
+    void shouldReturnCachedPaperWithoutLoadingPaperGraphWhenUserIsNotInRelationshipWithPaperOnFindPaperById() {
+        //Arrange
+        SecurityUser securityUser = getSecurityUser();
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                securityUser,
+                null,
+                securityUser.getAuthorities()));
+        PaperDTO paperDTO = new PaperDTO(
+                1L,
+                LocalDate.now(),
+                "title",
+                "abstractText",
+                new String[]{"author"},
+                new String[]{"keyword"});
+
+        when(this.paperRepository.findPaperDTOById(1L)).thenReturn(Optional.of(paperDTO));
+        when(this.paperUserRepository.existsById(new PaperUserId(1L, securityUser.user().getId()))).thenReturn(false);
+
+        //Act
+        PaperDTO actual = this.underTest.findPaperById(1L, securityContext);
+
+        //Assert
+        assertThat(actual).isSameAs(paperDTO);
+        verify(this.paperRepository, never()).findByPaperIdFetchingPaperUsersAndReviews(any());
+    }
+
+    //findPapers()
+    @ParameterizedTest
+    @ValueSource(ints = {0, 101})
+    void shouldThrowIllegalArgumentExceptionWhenLimitIsInvalidOnFindPapers(int limit) {
+        //Arrange
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.findPapers("", "", "", null, limit, securityContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and 100");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsInvalidOnFindPapers() {
+        //Arrange
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.findPapers("", "", "", "invalid", 20, securityContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    //searchPapers()
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCursorRankIsInvalidOnSearchPapers() {
+        //Arrange
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        String cursor = new PaperCursor("title", 1L).encode();
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.searchPapers("query", cursor, 20, securityContext))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
     private SecurityUser getSecurityUser() {
         User user = new User("username", "password", "Full Name", Set.of(new Role(RoleType.ROLE_AUTHOR)));
         user.setId(1L);
@@ -0,0 +1,208 @@
+package com.example.conference_management_system.paper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import com.example.conference_management_system.entity.Role;
+import com.example.conference_management_system.entity.UploadSession;
+import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.exception.ResourceNotFoundException;
+import com.example.conference_management_system.exception.ServerErrorException;
+import com.example.conference_management_system.exception.StateConflictException;
+import com.example.conference_management_system.file.FileService;
+import com.example.conference_management_system.paper.dto.PaperCreateRequest;
+import com.example.conference_management_system.paper.dto.UploadSessionCreateRequest;
+import com.example.conference_management_system.role.RoleType;
+import com.example.conference_management_system.security.SecurityUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaperUploadServiceTest {
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+    @Mock
+    private PaperService paperService;
+    @Mock
+    private FileService fileService;
+    private PaperUploadService underTest;
+    private static final String SHA256 = "a".repeat(64);
+
+    @BeforeEach
+    void setup() {
+        this.underTest = new PaperUploadService(
+                uploadSessionRepository,
+                paperService,
+                fileService,
+                DataSize.ofMegabytes(1),
+                Duration.ofHours(24));
+    }
+
+    //createUploadSession()
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenFileSizeExceedsMaxFileSize() {
+        //Arrange
+        UploadSessionCreateRequest uploadSessionCreateRequest = new UploadSessionCreateRequest(
+                "test.pdf",
+                DataSize.ofMegabytes(2).toBytes(),
+                SHA256);
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.createUploadSession(uploadSessionCreateRequest, getSecurityUser(1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("File size must not exceed 1MB");
+        verifyNoInteractions(uploadSessionRepository, fileService);
+    }
+
+    @Test
+    void shouldDeleteUploadSessionWhenUploadFileCanNotBeCreated() {
+        //Arrange
+        UUID uploadId = UUID.randomUUID();
+        UploadSessionCreateRequest uploadSessionCreateRequest = new UploadSessionCreateRequest("test.pdf", 100, SHA256);
+
+        when(this.uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> {
+            UploadSession uploadSession = invocation.getArgument(0);
+            uploadSession.setId(uploadId);
+            return uploadSession;
+        });
+        doThrow(new ServerErrorException("The server encountered an internal error and was unable to complete your " +
+                "request. Please try again later")).when(this.fileService).createUploadFile(uploadId);
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.createUploadSession(uploadSessionCreateRequest, getSecurityUser(1L)))
+                .isInstanceOf(ServerErrorException.class);
+        verify(this.uploadSessionRepository).deleteById(uploadId);
+    }
+
+    //appendChunk()
+    @Test
+    void shouldThrowResourceNotFoundExceptionWhenUploadBelongsToAnotherUser() {
+        //Arrange
+        UploadSession uploadSession = getUploadSession(2L);
+        when(this.uploadSessionRepository.findById(uploadSession.getId())).thenReturn(Optional.of(uploadSession));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.appendChunk(uploadSession.getId(), 0, null, getSecurityUser(1L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Upload not found with id: " + uploadSession.getId());
+        verifyNoInteractions(fileService);
+    }
+
+    //completeUpload()
+    @Test
+    void shouldThrowStateConflictExceptionWhenUploadIsNotComplete() {
+        //Arrange
+        UploadSession uploadSession = getUploadSession(1L);
+        when(this.uploadSessionRepository.findById(uploadSession.getId())).thenReturn(Optional.of(uploadSession));
+        when(this.fileService.getUploadFileSize(uploadSession.getId())).thenReturn(10L);
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.completeUpload(uploadSession.getId(), "title", "abstractText",
+                "author 1", "keyword 1", getSecurityUser(1L), mock(HttpServletRequest.class)))
+                .isInstanceOf(StateConflictException.class)
+                .hasMessage("The upload is not complete. Received 10 of 100 bytes");
+        verifyNoInteractions(paperService);
+    }
+
+    @Test
+    void shouldDeleteUploadWhenChecksumDoesNotMatch() {
+        //Arrange
+        UploadSession uploadSession = getUploadSession(1L);
+        when(this.uploadSessionRepository.findById(uploadSession.getId())).thenReturn(Optional.of(uploadSession));
+        when(this.fileService.getUploadFileSize(uploadSession.getId())).thenReturn(100L);
+        when(this.fileService.uploadFileMatches(uploadSession.getId(), SHA256)).thenReturn(false);
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.completeUpload(uploadSession.getId(), "title", "abstractText",
+                "author 1", "keyword 1", getSecurityUser(1L), mock(HttpServletRequest.class)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The SHA-256 of the uploaded file does not match the one provided. Please upload the file " +
+                        "again");
+        verify(this.uploadSessionRepository).deleteById(uploadSession.getId());
+        verify(this.fileService).deleteUploadFile(uploadSession.getId());
+        verifyNoInteractions(paperService);
+    }
+
+    @Test
+    void shouldCreatePaperAndDeleteUploadWhenUploadIsComplete() {
+        //Arrange
+        UploadSession uploadSession = getUploadSession(1L);
+        SecurityUser securityUser = getSecurityUser(1L);
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        MockMultipartFile file = new MockMultipartFile("file", "test.pdf", null, new byte[100]);
+
+        when(this.uploadSessionRepository.findById(uploadSession.getId())).thenReturn(Optional.of(uploadSession));
+        when(this.fileService.getUploadFileSize(uploadSession.getId())).thenReturn(100L);
+        when(this.fileService.uploadFileMatches(uploadSession.getId(), SHA256)).thenReturn(true);
+        when(this.fileService.getUploadFile(uploadSession.getId(), "test.pdf")).thenReturn(file);
+        when(this.paperService.createPaper(any(PaperCreateRequest.class), eq(securityUser), eq(servletRequest)))
+                .thenReturn(5L);
+
+        //Act
+        Long paperId = this.underTest.completeUpload(uploadSession.getId(), "title", "abstractText", "author 1",
+                "keyword 1", securityUser, servletRequest);
+
+        //Assert
+        assertThat(paperId).isEqualTo(5L);
+        verify(this.uploadSessionRepository).deleteById(uploadSession.getId());
+        verify(this.fileService).deleteUploadFile(uploadSession.getId());
+    }
+
+    @Test
+    void shouldKeepUploadWhenPaperCanNotBeCreated() {
+        //Arrange
+        UploadSession uploadSession = getUploadSession(1L);
+        SecurityUser securityUser = getSecurityUser(1L);
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
+        MockMultipartFile file = new MockMultipartFile("file", "test.pdf", null, new byte[100]);
+
+        when(this.uploadSessionRepository.findById(uploadSession.getId())).thenReturn(Optional.of(uploadSession));
+        when(this.fileService.getUploadFileSize(uploadSession.getId())).thenReturn(100L);
+        when(this.fileService.uploadFileMatches(uploadSession.getId(), SHA256)).thenReturn(true);
+        when(this.fileService.getUploadFile(uploadSession.getId(), "test.pdf")).thenReturn(file);
+        when(this.paperService.createPaper(any(PaperCreateRequest.class), eq(securityUser), eq(servletRequest)))
+                .thenThrow(new IllegalArgumentException("You must provide the title of the paper"));
+
+        //Act & Assert
+        assertThatThrownBy(() -> this.underTest.completeUpload(uploadSession.getId(), "", "abstractText",
+                "author 1", "keyword 1", securityUser, servletRequest))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(this.uploadSessionRepository, never()).deleteById(any());
+        verify(this.fileService, never()).deleteUploadFile(any());
+    }
+
+    private UploadSession getUploadSession(Long userId) {
+        UploadSession uploadSession = new UploadSession(getSecurityUser(userId).user(), "test.pdf", 100, SHA256);
+        uploadSession.setId(UUID.randomUUID());
+
+        return uploadSession;
+    }
+
+    private SecurityUser getSecurityUser(Long userId) {
+        User user = new User("username", "password", "Full Name", Set.of(new Role(RoleType.ROLE_AUTHOR)));
+        user.setId(userId);
+
+        return new SecurityUser(user);
+    }
+}
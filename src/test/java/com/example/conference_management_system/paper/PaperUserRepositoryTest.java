@@ -0,0 +1,82 @@
+package com.example.conference_management_system.paper;
+
+import com.example.conference_management_system.AbstractRepositoryTest;
+import com.example.conference_management_system.entity.Paper;
+import com.example.conference_management_system.entity.PaperUser;
+import com.example.conference_management_system.entity.User;
+import com.example.conference_management_system.entity.key.PaperUserId;
+import com.example.conference_management_system.role.RoleType;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaperUserRepositoryTest extends AbstractRepositoryTest {
+    @Autowired
+    private PaperUserRepository underTest;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    //insertAll()
+    @Test
+    void shouldInsertPaperUsersAndReadThemBack() {
+        //Arrange
+        User user = this.entityManager.persist(new User("username", "password", "Full Name"));
+        User another = this.entityManager.persist(new User("another", "password", "Full Name"));
+        Paper paper = this.entityManager.persist(new Paper("title", "abstractText", "Full Name", "keyword"));
+        this.entityManager.flush();
+        PaperUserId id = new PaperUserId(paper.getId(), user.getId());
+        PaperUserId anotherId = new PaperUserId(paper.getId(), another.getId());
+
+        //Act
+        Set<PaperUserId> actual = this.underTest.insertAll(List.of(
+                new PaperUser(id, null, null, RoleType.ROLE_REVIEWER),
+                new PaperUser(anotherId, null, null, RoleType.ROLE_REVIEWER)));
+
+        //Assert
+        assertThat(actual).containsExactlyInAnyOrder(id, anotherId);
+
+        this.entityManager.clear();
+        PaperUser paperUser = this.entityManager.find(PaperUser.class, id);
+        assertThat(paperUser.getRoleType()).isEqualTo(RoleType.ROLE_REVIEWER);
+        assertThat(paperUser.getAssignedDate()).isEqualTo(LocalDate.now());
+        assertThat(this.entityManager.find(PaperUser.class, anotherId)).isNotNull();
+    }
+
+    @Test
+    void shouldSkipExistingPaperUsersOnInsertAll() {
+        //Arrange
+        User user = this.entityManager.persist(new User("username", "password", "Full Name"));
+        User another = this.entityManager.persist(new User("another", "password", "Full Name"));
+        Paper paper = this.entityManager.persist(new Paper("title", "abstractText", "Full Name", "keyword"));
+        PaperUserId id = new PaperUserId(paper.getId(), user.getId());
+        PaperUserId anotherId = new PaperUserId(paper.getId(), another.getId());
+        this.entityManager.persist(new PaperUser(id, paper, user, RoleType.ROLE_AUTHOR));
+        this.entityManager.flush();
+
+        //Act
+        Set<PaperUserId> actual = this.underTest.insertAll(List.of(
+                new PaperUser(id, null, null, RoleType.ROLE_REVIEWER),
+                new PaperUser(anotherId, null, null, RoleType.ROLE_REVIEWER)));
+
+        //Assert
+        assertThat(actual).containsExactly(anotherId);
+
+        this.entityManager.clear();
+        assertThat(this.entityManager.find(PaperUser.class, id).getRoleType()).isEqualTo(RoleType.ROLE_AUTHOR);
+        assertThat(this.entityManager.find(PaperUser.class, anotherId).getRoleType())
+                .isEqualTo(RoleType.ROLE_REVIEWER);
+    }
+
+    @Test
+    void shouldReturnEmptySetWhenThereIsNothingToInsertOnInsertAll() {
+        //Act & Assert
+        assertThat(this.underTest.insertAll(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.conference_management_system.paper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.ServletException;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadAdmissionFilterTest {
+    private final UploadAdmissionFilter underTest = new UploadAdmissionFilter(0, 0, Duration.ZERO,
+            Duration.ofSeconds(10), new ObjectMapper());
+
+    //doFilter()
+    @Test
+    void should503BeforeUploadIsReadWhenThereIsNoCapacity() throws ServletException, IOException {
+        //Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/papers");
+        request.setServletPath("/api/v1/papers");
+        request.setContentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=boundary");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        //Act
+        this.underTest.doFilter(request, response, filterChain);
+
+        //Assert
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"message\":\"Too many uploads are in progress. Please try again later\"}");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldNotAdmitRequestsThatAreNotUploads() throws ServletException, IOException {
+        //Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/papers/1/author");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        //Act
+        this.underTest.doFilter(request, response, filterChain);
+
+        //Assert
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(filterChain.getRequest()).isSameAs(request);
+    }
+}
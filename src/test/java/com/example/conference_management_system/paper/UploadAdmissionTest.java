@@ -0,0 +1,99 @@
+package com.example.conference_management_system.paper;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.conference_management_system.exception.ServiceUnavailableException;
+
+import jakarta.servlet.ServletException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class UploadAdmissionTest {
+
+    //admit()
+    @Test
+    void shouldRunUploadWhenThereIsCapacity() throws Exception {
+        //Arrange
+        UploadAdmission underTest = new UploadAdmission(1, 0, Duration.ZERO, Duration.ofSeconds(10));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        //Act
+        underTest.admit(() -> ran.set(true));
+
+        //Assert
+        assertThat(ran).isTrue();
+    }
+
+    @Test
+    void shouldThrowServiceUnavailableExceptionWhenQueueIsFull() throws InterruptedException {
+        //Arrange
+        UploadAdmission underTest = new UploadAdmission(1, 0, Duration.ZERO, Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.execute(() -> admitBlocking(underTest, started, finish));
+        started.await(5, TimeUnit.SECONDS);
+
+        //Act & Assert
+        try {
+            assertThatExceptionOfType(ServiceUnavailableException.class).isThrownBy(() -> underTest.admit(() -> {
+            }))
+                    .satisfies(sue -> assertThat(sue.getRetryAfter()).isEqualTo(Duration.ofSeconds(10)));
+        } finally {
+            finish.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldThrowServiceUnavailableExceptionWhenWaitTimesOut() throws Exception {
+        //Arrange
+        UploadAdmission underTest = new UploadAdmission(1, 1, Duration.ofMillis(50), Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.execute(() -> admitBlocking(underTest, started, finish));
+        started.await(5, TimeUnit.SECONDS);
+
+        //Act & Assert
+        try {
+            assertThatExceptionOfType(ServiceUnavailableException.class).isThrownBy(() -> underTest.admit(() -> {
+            }));
+        } finally {
+            finish.countDown();
+            executor.shutdown();
+        }
+
+        //The queued slot is released after the timeout, so the next upload is admitted once the running one finishes
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        AtomicBoolean ran = new AtomicBoolean();
+        underTest.admit(() -> ran.set(true));
+        assertThat(ran).isTrue();
+    }
+
+    private void admitBlocking(UploadAdmission uploadAdmission, CountDownLatch started, CountDownLatch finish) {
+        try {
+            uploadAdmission.admit(() -> {
+                started.countDown();
+                try {
+                    finish.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } catch (IOException | ServletException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}